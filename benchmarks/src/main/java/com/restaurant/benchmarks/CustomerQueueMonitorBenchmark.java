@@ -0,0 +1,97 @@
+package com.restaurant.benchmarks;
+
+import com.restaurant.domain.monitors.CustomerQueueMonitor;
+import com.restaurant.domain.monitors.WaiterWorkQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// En handoff el mesero casi nunca encuentra a alguien si la recepción va más lenta, y se adelanta
+// sin límite si va más rápida; la recepción se detiene con MAX_BACKLOG clientes esperando y el
+// ritmo real se lee en el contador served, no en el puntaje del grupo.
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class CustomerQueueMonitorBenchmark {
+    private static final Object CUSTOMER = new Object();
+    private static final int MAX_BACKLOG = 64;
+
+    private CustomerQueueMonitor<Object> customerQueueMonitor;
+    private WaiterWorkQueue waiterWorkQueue;
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Served {
+        public long served;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            served = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        waiterWorkQueue = new WaiterWorkQueue();
+        customerQueueMonitor = new CustomerQueueMonitor<>(waiterWorkQueue);
+        backlog.set(0);
+    }
+
+    // Latencia de un ciclo completo en un solo hilo: encolar, recibir el aviso y reclamar al cliente
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Group("roundTrip")
+    @GroupThreads(1)
+    public CustomerQueueMonitor.CustomerRequest<Object> roundTrip() {
+        customerQueueMonitor.addCustomer(CUSTOMER, 0);
+        waiterWorkQueue.poll();
+        return customerQueueMonitor.pollNextCustomer();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Group("handoff")
+    @GroupThreads(1)
+    public void seatCustomer() {
+        if (backlog.get() >= MAX_BACKLOG) {
+            Thread.onSpinWait();
+            return;
+        }
+        backlog.incrementAndGet();
+        customerQueueMonitor.addCustomer(CUSTOMER, 0);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Group("handoff")
+    @GroupThreads(1)
+    public CustomerQueueMonitor.CustomerRequest<Object> serveCustomer(Served counters) {
+        if (waiterWorkQueue.poll() == null) {
+            return null;
+        }
+        CustomerQueueMonitor.CustomerRequest<Object> request = customerQueueMonitor.pollNextCustomer();
+        if (request != null) {
+            backlog.decrementAndGet();
+            counters.served++;
+        }
+        return request;
+    }
+}
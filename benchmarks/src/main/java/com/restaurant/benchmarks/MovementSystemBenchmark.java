@@ -0,0 +1,60 @@
+package com.restaurant.benchmarks;
+
+import com.restaurant.domain.movement.MovementSystem;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Un fotograma de 60 FPS con todos los agentes en movimiento; al llegar, cada agente recibe un destino nuevo.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovementSystemBenchmark {
+    private static final double FRAME = 1.0 / 60.0;
+    private static final double WIDTH = 1200;
+    private static final double HEIGHT = 900;
+    private static final double SPEED = 150;
+
+    @Param({"1000", "10000", "50000"})
+    public int agents;
+
+    private MovementSystem movementSystem;
+    private SplittableRandom random;
+    private int[] handles;
+
+    @Setup
+    public void setUp() {
+        movementSystem = new MovementSystem();
+        random = new SplittableRandom(42L);
+        handles = new int[agents];
+        for (int i = 0; i < agents; i++) {
+            int index = i;
+            handles[i] = movementSystem.register(null, random.nextDouble(WIDTH), random.nextDouble(HEIGHT), SPEED,
+                    moveId -> retarget(index));
+            retarget(i);
+        }
+    }
+
+    private void retarget(int index) {
+        movementSystem.moveTo(handles[index], random.nextDouble(WIDTH), random.nextDouble(HEIGHT));
+    }
+
+    @Benchmark
+    public int update() {
+        movementSystem.update(FRAME);
+        return movementSystem.getMoverCount();
+    }
+}
@@ -0,0 +1,142 @@
+package com.restaurant.benchmarks;
+
+import com.restaurant.domain.kitchen.KitchenScheduler;
+import com.restaurant.domain.kitchen.OrderSchedulingPolicy;
+import com.restaurant.domain.models.Order;
+import com.restaurant.domain.monitors.OrderQueueMonitor;
+import com.restaurant.domain.monitors.WaiterWorkQueue;
+import com.restaurant.metrics.LatencyRecorder;
+import com.restaurant.trace.TraceRecorder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Los consumidores usan las variantes no bloqueantes para que JMH pueda cerrar cada iteración
+// aunque los productores ya hayan terminado. Por eso en pipeline un intento vacío también cuenta
+// como operación: el productor se detiene con MAX_BACKLOG órdenes sin entregar, y el ritmo real
+// se lee en los contadores cooked y delivered, no en el puntaje del grupo.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class OrderQueueMonitorBenchmark {
+    private static final int TABLES = 100;
+    private static final int PREPARATION_SPREAD = 5000;
+    private static final int MAX_BACKLOG = 64;
+
+    @Param({"1", "4"})
+    public int cooks;
+
+    @Param({"FIFO", "SHORTEST_PREP_FIRST"})
+    public OrderSchedulingPolicy policy;
+
+    private OrderQueueMonitor orderQueueMonitor;
+    private WaiterWorkQueue waiterWorkQueue;
+    private final AtomicInteger orderIds = new AtomicInteger();
+    private final AtomicInteger cookIds = new AtomicInteger();
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class CookState {
+        int cookId = -1;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Completed {
+        public long cooked;
+        public long delivered;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cooked = 0;
+            delivered = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        waiterWorkQueue = new WaiterWorkQueue();
+        orderQueueMonitor = new OrderQueueMonitor(
+                waiterWorkQueue,
+                new KitchenScheduler(cooks, policy, System::currentTimeMillis),
+                new LatencyRecorder(),
+                TraceRecorder.disabled()
+        );
+        cookIds.set(0);
+        backlog.set(0);
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public void addOrder() {
+        if (backlog.get() >= MAX_BACKLOG) {
+            Thread.onSpinWait();
+            return;
+        }
+        backlog.incrementAndGet();
+        int id = orderIds.incrementAndGet();
+        orderQueueMonitor.addOrder(new Order(id, id % TABLES, Order.MIN_PREPARATION_TIME + id % PREPARATION_SPREAD));
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public Order cookOrder(CookState state, Completed counters) {
+        if (state.cookId == -1) {
+            state.cookId = cookIds.getAndIncrement() % cooks;
+        }
+        Order order = orderQueueMonitor.pollNextOrder(state.cookId);
+        if (order != null) {
+            orderQueueMonitor.markOrderAsReady(order);
+            counters.cooked++;
+        }
+        return order;
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public void deliverOrder(Completed counters, Blackhole blackhole) {
+        WaiterWorkQueue.Work work = waiterWorkQueue.poll();
+        if (work == null) {
+            return;
+        }
+        Order order = orderQueueMonitor.takeAnyReadyOrder();
+        if (order != null) {
+            backlog.decrementAndGet();
+            counters.delivered++;
+        }
+        blackhole.consume(order);
+    }
+
+    @Benchmark
+    @Group("checkReady")
+    @GroupThreads(1)
+    public Order checkReadyOrder() {
+        int id = orderIds.incrementAndGet();
+        Order order = new Order(id, id % TABLES, Order.MIN_PREPARATION_TIME + id % PREPARATION_SPREAD);
+        orderQueueMonitor.addOrder(order);
+        orderQueueMonitor.markOrderAsReady(orderQueueMonitor.pollNextOrder(0));
+        waiterWorkQueue.poll();
+        return orderQueueMonitor.checkReadyOrder(order.getTableNumber());
+    }
+}
@@ -0,0 +1,45 @@
+package com.restaurant.benchmarks;
+
+import com.restaurant.utils.PoissonDistribution;
+import com.restaurant.utils.RandomStreams;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PoissonDistributionBenchmark {
+
+    @Param({"0.4", "4", "40", "400"})
+    public double lambda;
+
+    private PoissonDistribution poissonDistribution;
+
+    @Setup
+    public void setUp() {
+        poissonDistribution = new PoissonDistribution(lambda, new RandomStreams(42L).newStream());
+    }
+
+    @Benchmark
+    public int nextInt() {
+        return poissonDistribution.nextInt();
+    }
+
+    @Benchmark
+    public double nextArrivalTime() {
+        return poissonDistribution.nextArrivalTime();
+    }
+}
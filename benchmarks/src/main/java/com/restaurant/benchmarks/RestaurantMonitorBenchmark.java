@@ -0,0 +1,63 @@
+package com.restaurant.benchmarks;
+
+import com.restaurant.domain.monitors.RestaurantMonitor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestaurantMonitorBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int tables;
+
+    private RestaurantMonitor restaurantMonitor;
+
+    @Setup
+    public void setUp() {
+        restaurantMonitor = new RestaurantMonitor(tables);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int acquireReleaseUncontended() {
+        return acquireAndRelease();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int acquireReleaseContended() {
+        return acquireAndRelease();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int blockingAcquireRelease() throws InterruptedException {
+        int tableNumber = restaurantMonitor.acquire();
+        restaurantMonitor.release(tableNumber);
+        return tableNumber;
+    }
+
+    private int acquireAndRelease() {
+        int tableNumber = restaurantMonitor.tryAcquire();
+        if (tableNumber != -1) {
+            restaurantMonitor.release(tableNumber);
+        }
+        return tableNumber;
+    }
+}
@@ -0,0 +1,78 @@
+package com.restaurant.application;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.SpawnData;
+import com.restaurant.config.GameConfig;
+import com.restaurant.domain.entities.Customer;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static com.almasb.fxgl.dsl.FXGL.getGameWorld;
+
+// Reutiliza entidades de clientes: al irse se ocultan y vuelven al pool, y al llegar uno nuevo se
+// reinicia una entidad libre con otro sprite. Sólo se usa desde el hilo de JavaFX; los contadores
+// son volátiles para poder leerlos desde otros hilos.
+public class CustomerPool {
+    private final GameFactory gameFactory;
+    private final IntFunction<Customer> customerFactory;
+    private final ArrayDeque<PooledCustomer> idle = new ArrayDeque<>();
+    private final Map<Customer, PooledCustomer> pooledByCustomer = new IdentityHashMap<>();
+    private volatile int created;
+    private volatile long reused;
+    private volatile int inUse;
+
+    private static class PooledCustomer {
+        final Entity entity;
+        final Customer customer;
+
+        PooledCustomer(Entity entity, Customer customer) {
+            this.entity = entity;
+            this.customer = customer;
+        }
+    }
+
+    public CustomerPool(GameFactory gameFactory, IntFunction<Customer> customerFactory) {
+        this.gameFactory = gameFactory;
+        this.customerFactory = customerFactory;
+    }
+
+    public void acquire(int id) {
+        PooledCustomer pooled = idle.poll();
+        if (pooled == null) {
+            Customer customer = customerFactory.apply(id);
+            SpawnData data = new SpawnData(GameConfig.ENTRANCE_X, GameConfig.ENTRANCE_Y);
+            data.put("customerComponent", customer);
+            Entity entity = getGameWorld().spawn("customer", data);
+            gameFactory.followAgent(entity, customer.getMovementAgent());
+            pooledByCustomer.put(customer, new PooledCustomer(entity, customer));
+            created++;
+        } else {
+            gameFactory.reskinCustomer(pooled.entity);
+            pooled.customer.reset(id);
+            gameFactory.setVisible(pooled.entity, true);
+            pooled.customer.start();
+            reused++;
+        }
+        inUse++;
+    }
+
+    public void release(Customer customer) {
+        PooledCustomer pooled = pooledByCustomer.get(customer);
+        gameFactory.setVisible(pooled.entity, false);
+        idle.push(pooled);
+        inUse--;
+    }
+
+    public int getCreated() { return created; }
+    public long getReused() { return reused; }
+    public int getInUse() { return inUse; }
+    public int getIdle() { return created - inUse; }
+
+    @Override
+    public String toString() {
+        return String.format("Pool de clientes: %d creados, %d reutilizados, %d en uso, %d libres",
+                created, reused, inUse, getIdle());
+    }
+}
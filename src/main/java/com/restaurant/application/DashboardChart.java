@@ -0,0 +1,114 @@
+package com.restaurant.application;
+
+import com.restaurant.metrics.TimeSeries;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+// Gráfica de líneas dibujada a mano en un Canvas. Los arreglos de trabajo se reservan una vez,
+// así que redibujar no genera basura.
+class DashboardChart {
+    private static final double TOP = 16;
+    private static final double BOTTOM = 4;
+    private static final Font FONT = Font.font(11);
+    // Las series acumuladas se muestran por minuto sobre al menos este tramo, para que una cubeta
+    // corta no oscile entre 0 y un pico
+    private static final long RATE_SPAN_MILLIS = 30_000;
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final String title;
+    private final String format;
+    private final TimeSeries[] series;
+    private final Color[] colors;
+    private final double[] values;
+    private final double[][] ys;
+    private final double[] xs;
+    private final int[] counts;
+
+    DashboardChart(String title, String format, double width, double height, TimeSeries[] series, Color[] colors) {
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.title = title;
+        this.format = format;
+        this.series = series;
+        this.colors = colors;
+        int capacity = series[0].getCapacity();
+        this.values = new double[capacity];
+        this.ys = new double[series.length][capacity];
+        this.xs = new double[capacity];
+        this.counts = new int[series.length];
+    }
+
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    void draw(long windowMillis) {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        int level = series[0].levelFor(windowMillis);
+        long bucketMillis = series[0].getBucketMillis(level);
+        int points = (int) Math.min(series[0].getCapacity(), Math.max(2, windowMillis / bucketMillis));
+
+        double highest = 0;
+        for (int s = 0; s < series.length; s++) {
+            boolean cumulative = series[s].getAggregation() == TimeSeries.Aggregation.LAST;
+            int lag = cumulative ? (int) Math.max(1, (RATE_SPAN_MILLIS + bucketMillis - 1) / bucketMillis) : 0;
+            int count = series[s].copy(level, points + lag, values);
+            if (cumulative) {
+                count = toRatePerMinute(count, lag, bucketMillis);
+            }
+            for (int i = 0; i < count; i++) {
+                ys[s][i] = values[i];
+                highest = Math.max(highest, values[i]);
+            }
+            counts[s] = count;
+        }
+        double scale = highest > 0 ? highest * 1.1 : 1;
+
+        graphics.clearRect(0, 0, width, height);
+        graphics.setFill(Color.rgb(255, 255, 255, 0.9));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setStroke(Color.LIGHTGRAY);
+        graphics.setLineWidth(1);
+        graphics.strokeRect(0.5, TOP + 0.5, width - 1, height - TOP - BOTTOM - 1);
+
+        double plotHeight = height - TOP - BOTTOM;
+        double step = (width - 2) / (points - 1);
+        for (int s = 0; s < series.length; s++) {
+            int count = counts[s];
+            if (count == 0) {
+                continue;
+            }
+            // El punto más nuevo queda en el borde derecho
+            double[] y = ys[s];
+            for (int i = 0; i < count; i++) {
+                xs[i] = width - 1 - (count - 1 - i) * step;
+                y[i] = TOP + plotHeight * (1 - y[i] / scale);
+            }
+            graphics.setStroke(colors[s]);
+            graphics.setLineWidth(1.5);
+            graphics.strokePolyline(xs, y, count);
+        }
+
+        graphics.setFont(FONT);
+        graphics.setFill(Color.BLACK);
+        graphics.fillText(title, 2, 12);
+        graphics.setFill(Color.DARKGRAY);
+        graphics.fillText(String.format(format, highest), width - 52, 12);
+    }
+
+    // Convierte en values un contador acumulado a su ritmo por minuto y devuelve cuántos puntos quedan
+    private int toRatePerMinute(int count, int lag, long bucketMillis) {
+        if (count <= lag) {
+            return 0;
+        }
+        double perMinute = 60_000.0 / (lag * bucketMillis);
+        for (int i = 0; i < count - lag; i++) {
+            values[i] = Math.max(0, values[i + lag] - values[i]) * perMinute;
+        }
+        return count - lag;
+    }
+}
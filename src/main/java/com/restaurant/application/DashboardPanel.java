@@ -0,0 +1,154 @@
+package com.restaurant.application;
+
+import com.restaurant.config.GameConfig;
+import com.restaurant.domain.models.CustomerStats;
+import com.restaurant.domain.monitors.CustomerQueueMonitor;
+import com.restaurant.domain.monitors.OrderQueueMonitor;
+import com.restaurant.domain.monitors.RestaurantMonitor;
+import com.restaurant.metrics.LatencyHistogram;
+import com.restaurant.metrics.LatencyPhase;
+import com.restaurant.metrics.LatencyRecorder;
+import com.restaurant.metrics.TimeSeries;
+import com.restaurant.utils.SimulationClock;
+import javafx.scene.control.Button;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+// Panel con el historial reciente de colas, órdenes por minuto, ocupación de mesas y percentiles
+// de espera. Muestrea y redibuja a lo sumo cada DASHBOARD_REFRESH_MILLIS de tiempo real, sin
+// importar los cuadros por segundo ni la velocidad del reloj; se usa sólo desde el hilo de JavaFX.
+public class DashboardPanel {
+    private static final double WIDTH = 210;
+    private static final double CHART_HEIGHT = 92;
+    // Nivel 0: un punto por segundo simulado durante 5 min; luego 12 s durante 1 h y 2 min durante 10 h
+    private static final long BUCKET_MILLIS = 1000;
+    private static final int CAPACITY = 300;
+    private static final int[] FACTORS = {12, 10};
+    private static final long[] WINDOWS = {5 * 60_000L, 60 * 60_000L, 10 * 60 * 60_000L};
+    private static final String[] WINDOW_NAMES = {"5 min", "1 h", "10 h"};
+
+    private final CustomerStats customerStats;
+    private final RestaurantMonitor restaurantMonitor;
+    private final OrderQueueMonitor orderQueueMonitor;
+    private final CustomerQueueMonitor<?> customerQueueMonitor;
+    private final LatencyRecorder latencyRecorder;
+    private final SimulationClock simulationClock;
+    private final long refreshNanos = GameConfig.DASHBOARD_REFRESH_MILLIS * 1_000_000L;
+
+    private final TimeSeries waitingTable = meanSeries();
+    private final TimeSeries waitingWaiter = meanSeries();
+    private final TimeSeries pendingOrders = meanSeries();
+    private final TimeSeries completedOrders = new TimeSeries(BUCKET_MILLIS, CAPACITY, TimeSeries.Aggregation.LAST, FACTORS);
+    private final TimeSeries tableUtilization = meanSeries();
+    private final TimeSeries waitP50 = new TimeSeries(BUCKET_MILLIS, CAPACITY, TimeSeries.Aggregation.MAX, FACTORS);
+    private final TimeSeries waitP90 = new TimeSeries(BUCKET_MILLIS, CAPACITY, TimeSeries.Aggregation.MAX, FACTORS);
+    private final TimeSeries waitP99 = new TimeSeries(BUCKET_MILLIS, CAPACITY, TimeSeries.Aggregation.MAX, FACTORS);
+    private final DashboardChart[] charts;
+
+    // Instantánea anterior del histograma de espera; la diferencia da los percentiles del último tramo
+    private LatencyHistogram previousWaits = new LatencyHistogram();
+    private double lastP50;
+    private double lastP90;
+    private double lastP99;
+    private long nextSampleNanos;
+    private long drawnVersion = -1;
+    private int windowIndex;
+    private boolean visible = true;
+
+    public DashboardPanel(CustomerStats customerStats, RestaurantMonitor restaurantMonitor,
+                          OrderQueueMonitor orderQueueMonitor, CustomerQueueMonitor<?> customerQueueMonitor,
+                          LatencyRecorder latencyRecorder, SimulationClock simulationClock) {
+        this.customerStats = customerStats;
+        this.restaurantMonitor = restaurantMonitor;
+        this.orderQueueMonitor = orderQueueMonitor;
+        this.customerQueueMonitor = customerQueueMonitor;
+        this.latencyRecorder = latencyRecorder;
+        this.simulationClock = simulationClock;
+        this.charts = new DashboardChart[]{
+                new DashboardChart("Colas: mesa / mesero / cocina", "máx %.0f", WIDTH, CHART_HEIGHT,
+                        new TimeSeries[]{waitingTable, waitingWaiter, pendingOrders},
+                        new Color[]{Color.FIREBRICK, Color.DARKORANGE, Color.STEELBLUE}),
+                new DashboardChart("Órdenes por minuto", "máx %.0f", WIDTH, CHART_HEIGHT,
+                        new TimeSeries[]{completedOrders},
+                        new Color[]{Color.SEAGREEN}),
+                new DashboardChart("Mesas ocupadas (%)", "máx %.0f", WIDTH, CHART_HEIGHT,
+                        new TimeSeries[]{tableUtilization},
+                        new Color[]{Color.STEELBLUE}),
+                new DashboardChart("Espera por mesa p50/p90/p99 (s)", "máx %.1f", WIDTH, CHART_HEIGHT,
+                        new TimeSeries[]{waitP50, waitP90, waitP99},
+                        new Color[]{Color.SEAGREEN, Color.DARKORANGE, Color.FIREBRICK})
+        };
+    }
+
+    private static TimeSeries meanSeries() {
+        return new TimeSeries(BUCKET_MILLIS, CAPACITY, TimeSeries.Aggregation.MEAN, FACTORS);
+    }
+
+    public VBox createPanel() {
+        VBox chartsBox = new VBox(4);
+        for (DashboardChart chart : charts) {
+            chartsBox.getChildren().add(chart.getCanvas());
+        }
+
+        Button windowButton = new Button("Ventana: " + WINDOW_NAMES[windowIndex]);
+        windowButton.setOnAction(event -> {
+            windowIndex = (windowIndex + 1) % WINDOWS.length;
+            windowButton.setText("Ventana: " + WINDOW_NAMES[windowIndex]);
+            drawnVersion = -1;
+        });
+
+        ToggleButton hideButton = new ToggleButton("Ocultar");
+        hideButton.selectedProperty().addListener((observable, wasHidden, hidden) -> {
+            visible = !hidden;
+            chartsBox.setVisible(visible);
+            windowButton.setDisable(hidden);
+            drawnVersion = -1;
+        });
+
+        VBox root = new VBox(5, new HBox(5, hideButton, windowButton), chartsBox);
+        root.setStyle("-fx-background-color: rgba(255, 255, 255, 0.8); -fx-padding: 5; -fx-background-radius: 5;");
+        root.setTranslateX(GameConfig.WINDOW_WIDTH - WIDTH - 20);
+        root.setTranslateY(10);
+        return root;
+    }
+
+    // Se llama en cada cuadro; casi siempre sólo compara el reloj real
+    public void update(long realNanos) {
+        if (realNanos - nextSampleNanos < 0) {
+            return;
+        }
+        nextSampleNanos = realNanos + refreshNanos;
+        sample(simulationClock.now());
+        if (visible && drawnVersion != waitingTable.getVersion()) {
+            drawnVersion = waitingTable.getVersion();
+            for (DashboardChart chart : charts) {
+                chart.draw(WINDOWS[windowIndex]);
+            }
+        }
+    }
+
+    private void sample(long now) {
+        waitingTable.add(now, customerStats.getCustomersWaitingTable());
+        waitingWaiter.add(now, customerQueueMonitor.getWaitingCount());
+        pendingOrders.add(now, orderQueueMonitor.getPendingCount());
+        completedOrders.add(now, orderQueueMonitor.getCompletedCount());
+        tableUtilization.add(now, 100.0 * restaurantMonitor.getOccupiedTables() / restaurantMonitor.getTotalTables());
+
+        LatencyHistogram waits = latencyRecorder.snapshot(LatencyPhase.WAITING_FOR_TABLE);
+        LatencyHistogram recent = new LatencyHistogram();
+        recent.add(waits);
+        recent.subtract(previousWaits);
+        previousWaits = waits;
+        // Sin clientes sentados en este tramo se repiten los últimos percentiles
+        if (recent.getTotalCount() > 0) {
+            lastP50 = recent.getValueAtPercentile(50) / 1000.0;
+            lastP90 = recent.getValueAtPercentile(90) / 1000.0;
+            lastP99 = recent.getValueAtPercentile(99) / 1000.0;
+        }
+        waitP50.add(now, lastP50);
+        waitP90.add(now, lastP90);
+        waitP99.add(now, lastP99);
+    }
+}
@@ -7,18 +7,39 @@ import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.component.Component;
 import com.almasb.fxgl.entity.components.ViewComponent;
 import com.restaurant.config.GameConfig;
+import com.restaurant.domain.kitchen.KitchenScheduler;
+import com.restaurant.domain.kitchen.OrderSchedulingPolicy;
 import com.restaurant.domain.entities.*;
 import com.restaurant.domain.models.*;
 import com.restaurant.domain.monitors.*;
+import com.restaurant.domain.admission.AdmissionPolicy;
+import com.restaurant.domain.arrivals.ArrivalSource;
+import com.restaurant.domain.arrivals.ArrivalTimeline;
+import com.restaurant.domain.arrivals.RateProfile;
+import com.restaurant.domain.arrivals.ThinningArrivalSource;
+import com.restaurant.domain.arrivals.TraceArrivalSource;
+import com.restaurant.domain.movement.MovementSystem;
+import com.restaurant.domain.movement.SimulationLoop;
+import com.restaurant.domain.movement.SnapshotInterpolator;
+import javafx.application.Platform;
 import javafx.geometry.Point2D;
 import javafx.scene.layout.AnchorPane;
-import javafx.util.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
-import com.restaurant.utils.PoissonDistribution;
+import com.restaurant.metrics.LatencyRecorder;
+import com.restaurant.metrics.MetricsRegistry;
+import com.restaurant.metrics.MetricsServer;
+import com.restaurant.metrics.RestaurantMetrics;
+import com.restaurant.rendering.CanvasRenderer;
+import com.restaurant.rendering.RenderMode;
+import com.restaurant.trace.TraceEventType;
+import com.restaurant.trace.TraceRecorder;
+import com.restaurant.utils.AgentExecutor;
+import com.restaurant.utils.ImageCache;
+import com.restaurant.utils.RandomStreams;
+import com.restaurant.utils.SimulationClock;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
 
@@ -27,14 +48,31 @@ public class GameApp extends GameApplication {
 
     private RestaurantMonitor restaurantMonitor;
     private OrderQueueMonitor orderQueueMonitor;
-    private CustomerQueueMonitor customerQueueMonitor;
+    private CustomerQueueMonitor<Customer> customerQueueMonitor;
+    private WaiterWorkQueue waiterWorkQueue;
+    private WaiterDispatcher waiterDispatcher;
     private CustomerStats customerStats;
-    private final List<Entity> tables = new ArrayList<>();
-    private ScheduledExecutorService customerSpawner;
+    private StatsPublisher statsPublisher;
+    private final TableRegistry tableRegistry = new TableRegistry(GameConfig.TOTAL_TABLES, GameConfig.TABLE_LAYOUT);
     private int customerIdCounter = 0;
-    private PoissonDistribution poissonDistribution;
+    private ArrivalTimeline arrivalTimeline;
+    private TraceArrivalSource arrivalTrace;
     private Entity receptionistEntity;
-    private List<Thread> cookThreads = new ArrayList<>();
+    private AgentExecutor agentExecutor;
+    private RandomStreams randomStreams;
+    private TraceRecorder traceRecorder;
+    private GameFactory gameFactory;
+    private CustomerPool customerPool;
+    private final MovementSystem movementSystem = new MovementSystem();
+    private final SimulationClock simulationClock = new SimulationClock();
+    private final SimulationLoop simulationLoop =
+            new SimulationLoop(movementSystem, simulationClock, GameConfig.SIMULATION_STEPS_PER_SECOND);
+    private final SnapshotInterpolator snapshotInterpolator = new SnapshotInterpolator(simulationLoop, movementSystem);
+    private CompletableFuture<Void> spritesLoading;
+    private CanvasRenderer canvasRenderer;
+    private DashboardPanel dashboardPanel;
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+    private MetricsServer metricsServer;
 
     @Override
     protected void initSettings(GameSettings settings) {
@@ -44,31 +82,64 @@ public class GameApp extends GameApplication {
         settings.setVersion("1.0");
     }
 
+    // Los sprites se decodifican en segundo plano mientras FXGL termina de arrancar
+    @Override
+    protected void onPreInit() {
+        spritesLoading = ImageCache.preloadAsync();
+    }
+
     @Override
     protected void initGame() {
+        awaitSprites();
         customerStats = new CustomerStats();
-        uiManager = new GameUIManager(customerStats);
+        statsPublisher = new StatsPublisher(customerStats);
+        uiManager = new GameUIManager(statsPublisher, simulationClock);
 
-        getGameWorld().addEntityFactory(new GameFactory());
+        randomStreams = RandomStreams.fromSystemProperties();
+        RenderMode renderMode = RenderMode.fromSystemProperties();
+        if (renderMode == RenderMode.CANVAS) {
+            canvasRenderer = new CanvasRenderer(snapshotInterpolator, GameConfig.WINDOW_WIDTH, GameConfig.WINDOW_HEIGHT);
+        }
+        gameFactory = new GameFactory(randomStreams.newStream(), canvasRenderer);
+        getGameWorld().addEntityFactory(gameFactory);
 
         Entity backgroundEntity = uiManager.createBackgroundEntity();
         getGameWorld().addEntity(backgroundEntity);
+        if (canvasRenderer != null) {
+            getGameScene().addUINode(canvasRenderer.getCanvas());
+        }
 
         initializeComponents();
-        uiManager.initializeUI();
+        uiManager.initializeUI(randomStreams.getSeed());
+        getGameScene().addUINode(dashboardPanel.createPanel());
         initializeGameElements();
+        simulationLoop.start();
         startCustomerGenerator();
+        startMetrics();
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            if (customerSpawner != null) {
-                customerSpawner.shutdownNow();
+            simulationClock.shutdown();
+            if (metricsServer != null) {
+                metricsServer.close();
             }
-            for (Thread cookThread : cookThreads) {
-                cookThread.interrupt();
+            metricsRegistry.unregisterMBeans();
+            if (arrivalTrace != null) {
+                arrivalTrace.close();
             }
+            agentExecutor.shutdownNow();
+            simulationLoop.stop();
+            traceRecorder.close();
         }));
     }
 
+    private void awaitSprites() {
+        try {
+            spritesLoading.join();
+        } catch (CompletionException e) {
+            System.err.println("No se pudo construir el atlas de sprites, se usarán imágenes sueltas: " + e.getCause());
+        }
+    }
+
     public static class BackgroundComponent extends Component {
         private AnchorPane root;
 
@@ -84,11 +155,51 @@ public class GameApp extends GameApplication {
     }
 
     private void initializeComponents() {
-        customerStats = new CustomerStats();
-        restaurantMonitor = new RestaurantMonitor();
-        orderQueueMonitor = new OrderQueueMonitor();
-        customerQueueMonitor = new CustomerQueueMonitor();
-        poissonDistribution = new PoissonDistribution(0.4);
+        agentExecutor = AgentExecutor.fromSystemProperties();
+        traceRecorder = TraceRecorder.fromSystemProperties();
+        traceRecorder.setClock(simulationClock::now);
+        restaurantMonitor = new RestaurantMonitor(GameConfig.TOTAL_TABLES);
+        waiterWorkQueue = new WaiterWorkQueue();
+        orderQueueMonitor = new OrderQueueMonitor(
+                waiterWorkQueue,
+                new KitchenScheduler(GameConfig.TOTAL_COOKS, OrderSchedulingPolicy.fromSystemProperties(), simulationClock::now),
+                LatencyRecorder.global(),
+                traceRecorder
+        );
+        customerQueueMonitor = new CustomerQueueMonitor<>(waiterWorkQueue, simulationClock::now);
+        customerPool = new CustomerPool(gameFactory, this::createCustomer);
+        waiterDispatcher = new WaiterDispatcher(waiterWorkQueue, Waiter::distanceSquaredToWork);
+        dashboardPanel = new DashboardPanel(customerStats, restaurantMonitor, orderQueueMonitor, customerQueueMonitor,
+                LatencyRecorder.global(), simulationClock);
+
+        RestaurantMetrics.register(metricsRegistry, restaurantMonitor);
+        RestaurantMetrics.register(metricsRegistry, orderQueueMonitor);
+        RestaurantMetrics.register(metricsRegistry, customerQueueMonitor);
+        RestaurantMetrics.register(metricsRegistry, customerStats);
+        RestaurantMetrics.register(metricsRegistry, simulationClock);
+        RestaurantMetrics.register(metricsRegistry, LatencyRecorder.global());
+    }
+
+    // Los MBeans quedan en com.restaurant:*; -Drestaurant.metrics.port=<puerto> además abre
+    // http://127.0.0.1:<puerto>/metrics en formato de Prometheus
+    private void startMetrics() {
+        metricsRegistry.group("Arrivals")
+                .counter("Released", "restaurant_customers_arrived_total", "Clientes que llegaron al restaurante",
+                        arrivalTimeline::getReleased);
+        metricsRegistry.group("CustomerPool")
+                .counter("Created", "restaurant_customer_pool_created_total", "Entidades de cliente creadas",
+                        customerPool::getCreated)
+                .counter("Reused", "restaurant_customer_pool_reused_total", "Llegadas atendidas con una entidad reciclada",
+                        customerPool::getReused)
+                .gauge("InUse", "restaurant_customer_pool_in_use", "Entidades de cliente en la escena",
+                        customerPool::getInUse)
+                .gauge("Idle", "restaurant_customer_pool_idle", "Entidades de cliente ocultas esperando reuso",
+                        customerPool::getIdle);
+        metricsRegistry.registerMBeans();
+        metricsServer = MetricsServer.fromSystemProperties(metricsRegistry);
+        if (metricsServer != null) {
+            System.err.println("Métricas en http://127.0.0.1:" + metricsServer.getPort() + "/metrics");
+        }
     }
 
 
@@ -104,26 +215,30 @@ public class GameApp extends GameApplication {
 
     private void initializeTables() {
         for (int i = 0; i < GameConfig.TOTAL_TABLES; i++) {
-            int row = i / 5;
-            int col = i % 5;
-            double x = 200 + col * (GameConfig.SPRITE_SIZE * 2);
-            double y = 3 + row * (GameConfig.SPRITE_SIZE * 2);
-
-            SpawnData data = new SpawnData(x, y);
+            Point2D position = tableRegistry.getTablePosition(i);
+            SpawnData data = new SpawnData(position.getX(), position.getY());
             data.put("tableNumber", i);
             Entity table = getGameWorld().spawn("table", data);
-            tables.add(table);
+            tableRegistry.register(table.getComponent(Table.class));
         }
     }
 
 
+    // Sin -Drestaurant.admission.* la fila de la recepción no tiene límite y nadie se va
     private void initializeReceptionist() {
+        AdmissionPolicy admissionPolicy = AdmissionPolicy.fromSystemProperties();
+        RestaurantMetrics.register(metricsRegistry, admissionPolicy);
         Point2D receptionistPos = new Point2D(GameConfig.RECEPTIONIST_X, GameConfig.RECEPTIONIST_Y);
         Receptionist receptionistComponent = new Receptionist(
                 restaurantMonitor,
                 receptionistPos,
-                customerStats
+                customerStats,
+                agentExecutor,
+                admissionPolicy,
+                randomStreams.newStream(),
+                simulationClock
         );
+        RestaurantMetrics.register(metricsRegistry, receptionistComponent);
 
         SpawnData data = new SpawnData(receptionistPos.getX(), receptionistPos.getY());
         data.put("receptionistComponent", receptionistComponent);
@@ -141,54 +256,81 @@ public class GameApp extends GameApplication {
                     i,
                     orderQueueMonitor,
                     customerQueueMonitor,
+                    waiterDispatcher,
                     startPos,
-                    tables
+                    tableRegistry,
+                    agentExecutor,
+                    randomStreams.newStream(),
+                    movementSystem,
+                    simulationClock
             );
+            RestaurantMetrics.register(metricsRegistry, waiter);
 
             SpawnData data = new SpawnData(startPos.getX(), startPos.getY());
             data.put("waiterComponent", waiter);
-            getGameWorld().spawn("waiter", data);
+            Entity entity = getGameWorld().spawn("waiter", data);
+            gameFactory.followAgent(entity, waiter.getMovementAgent());
         }
+        waiterDispatcher.start(agentExecutor);
     }
 
+    // -Drestaurant.arrivals.trace=<archivo> reproduce llegadas registradas. Si no, la tasa base es la
+    // de ARRIVAL_RATE clientes cada ARRIVAL_INTERVAL y -Drestaurant.arrivals=rush o un archivo de
+    // perfil le agregan horas pico
     private void startCustomerGenerator() {
-        customerSpawner = Executors.newSingleThreadScheduledExecutor();
-        customerSpawner.scheduleAtFixedRate(() -> {
-            try {
-                generateNewCustomers();
-            } catch (Exception e) {
-                System.err.println("Error en generador de clientes: " + e.getMessage());
-            }
-        }, 0, 3, TimeUnit.SECONDS);
+        ArrivalSource source;
+        String tracePath = System.getProperty(TraceArrivalSource.PATH_PROPERTY);
+        if (tracePath != null) {
+            arrivalTrace = TraceArrivalSource.open(Path.of(tracePath));
+            source = arrivalTrace;
+        } else {
+            double basePerSecond = GameConfig.ARRIVAL_RATE * 1000.0 / GameConfig.ARRIVAL_INTERVAL;
+            RateProfile profile = RateProfile.fromSystemProperties(basePerSecond);
+            source = new ThinningArrivalSource(profile, GameConfig.OPENING_TIME_MILLIS, randomStreams.newStream());
+        }
+        arrivalTimeline = new ArrivalTimeline(source, GameConfig.ARRIVAL_BATCH_MILLIS);
     }
 
-    private void generateNewCustomers() {
-        int numCustomers = poissonDistribution.nextInt();
-        for (int i = 0; i < numCustomers; i++) {
-            final int currentId = customerIdCounter++;
-            runOnce(() -> spawnCustomer(currentId),
-                    Duration.seconds(poissonDistribution.nextArrivalTime())
-            );
+    // Todas las llegadas vencidas desde el cuadro anterior entran juntas
+    private void releaseArrivals() {
+        int due = arrivalTimeline.releaseDue(simulationClock.now());
+        for (int i = 0; i < due; i++) {
+            spawnCustomer(customerIdCounter++);
         }
     }
 
     private void spawnCustomer(int id) {
-        Customer customer = new Customer(
+        traceRecorder.record(TraceEventType.CUSTOMER_SPAWNED, id, -1);
+        customerPool.acquire(id);
+    }
+
+    private Customer createCustomer(int id) {
+        return new Customer(
                 id,
                 restaurantMonitor,
                 orderQueueMonitor,
                 customerQueueMonitor,
                 customerStats,
-                tables
+                tableRegistry,
+                agentExecutor,
+                randomStreams.newStream(),
+                movementSystem,
+                simulationClock,
+                // La salida se detecta en el hilo de simulación; el pool sólo se toca desde JavaFX
+                customer -> Platform.runLater(() -> customerPool.release(customer))
         );
-        SpawnData data = new SpawnData(GameConfig.ENTRANCE_X, GameConfig.ENTRANCE_Y);
-        data.put("customerComponent", customer);
-        getGameWorld().spawn("customer", data);
     }
 
     @Override
     protected void onUpdate(double tpf) {
-
+        releaseArrivals();
+        snapshotInterpolator.update(simulationClock.nanos());
+        if (canvasRenderer != null) {
+            canvasRenderer.render();
+        }
+        statsPublisher.publish();
+        uiManager.updateClock();
+        dashboardPanel.update(System.nanoTime());
     }
 
     public static void main(String[] args) {
@@ -198,7 +340,8 @@ public class GameApp extends GameApplication {
     private void initializeCooks() {
         double kitchenY = GameConfig.KITCHEN_Y;
         for (int i = 0; i < GameConfig.TOTAL_COOKS; i++) {
-            Cook cook = new Cook(i, orderQueueMonitor);
+            Cook cook = new Cook(i, orderQueueMonitor, simulationClock);
+            RestaurantMetrics.register(metricsRegistry, cook);
             SpawnData data = new SpawnData(
                     GameConfig.KITCHEN_X,
                     kitchenY + (i * GameConfig.SPRITE_SIZE)
@@ -206,35 +349,20 @@ public class GameApp extends GameApplication {
             data.put("cookComponent", cook);
             Entity cookEntity = getGameWorld().spawn("cook", data);
 
-            Thread cookThread = new Thread(cook);
-            cookThreads.add(cookThread);
-            cookThread.start();
+            agentExecutor.execute(cook);
         }
     }
 
-    private void stopCookThreads() {
-        for (Thread cookThread : cookThreads) {
-            cookThread.interrupt();
-            try {
-                cookThread.join(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+    private void stopAgents() {
+        agentExecutor.shutdownNow();
+        try {
+            agentExecutor.awaitTermination(500, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        cookThreads.clear();
     }
 
     private void stopCustomerGenerator() {
-        if (customerSpawner != null) {
-            customerSpawner.shutdown();
-            try {
-                if (!customerSpawner.awaitTermination(800, TimeUnit.MILLISECONDS)) {
-                    customerSpawner.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                customerSpawner.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
+        simulationClock.shutdown();
     }
 }
\ No newline at end of file
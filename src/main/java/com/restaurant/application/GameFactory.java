@@ -1,107 +1,128 @@
 package com.restaurant.application;
 
+import com.almasb.fxgl.dsl.EntityBuilder;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.EntityFactory;
 import com.almasb.fxgl.entity.SpawnData;
 import com.almasb.fxgl.entity.Spawns;
 import com.restaurant.config.GameConfig;
 import com.restaurant.domain.entities.*;
+import com.restaurant.rendering.CanvasRenderer;
 import com.restaurant.utils.ImageCache;
 import javafx.geometry.Point2D;
 import javafx.scene.image.ImageView;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
 import static com.almasb.fxgl.dsl.FXGL.entityBuilder;
 
 public class GameFactory implements EntityFactory {
+    private static final List<String> CUSTOMER_IMAGES = List.of(
+            "image/personas/Persona.png",
+            "image/personas/Persona2.png",
+            "image/personas/Persona3.png",
+            "image/personas/Persona4.png"
+    );
+    private static final List<String> COOK_IMAGES = List.of(
+            "image/personas/Cocinero.png",
+            "image/personas/Cocinero2.png"
+    );
 
-    @Spawns("customer")
-    public Entity spawnCustomer(SpawnData data) {
-        List<String> imagePaths = List.of(
-                "image/personas/Persona.png",
-                "image/personas/Persona2.png",
-                "image/personas/Persona3.png",
-                "image/personas/Persona4.png"
-        );
+    private static final double PERSON_SIZE = GameConfig.SPRITE_SIZE * 2;
+    private static final double TABLE_SIZE = GameConfig.SPRITE_SIZE * 9;
 
-        Random rand = new Random();
-        String selectedPath = imagePaths.get(rand.nextInt(imagePaths.size()));
-        ImageView imageView = new ImageView(ImageCache.getImage(selectedPath));
-        imageView.setFitWidth(GameConfig.SPRITE_SIZE * 2);
-        imageView.setFitHeight(GameConfig.SPRITE_SIZE * 2);
-        imageView.setSmooth(true);
-        imageView.setCache(true);
+    private final SplittableRandom random;
+    // null en modo NODES: cada entidad lleva su propio ImageView
+    private final CanvasRenderer canvasRenderer;
+    private final Map<Entity, ImageView> views = new IdentityHashMap<>();
+    private final Map<Entity, Integer> sprites = new IdentityHashMap<>();
 
-        return entityBuilder()
-                .at(data.getX(), data.getY())
-                .viewWithBBox(imageView)
-                .with(data.<Customer>get("customerComponent"))
-                .build();
+    public GameFactory(SplittableRandom random, CanvasRenderer canvasRenderer) {
+        this.random = random;
+        this.canvasRenderer = canvasRenderer;
+    }
+
+    @Spawns("customer")
+    public Entity spawnCustomer(SpawnData data) {
+        return withSprite(entityBuilder()
+                        .at(data.getX(), data.getY())
+                        .with(data.<Customer>get("customerComponent")),
+                nextCustomerSprite(), PERSON_SIZE, data.getX(), data.getY());
     }
 
     @Spawns("waiter")
     public Entity spawnWaiter(SpawnData data) {
-        ImageView imageView = new ImageView(ImageCache.getImage("image/personas/Mesera.png"));
-        imageView.setFitWidth(GameConfig.SPRITE_SIZE * 2);
-        imageView.setFitHeight(GameConfig.SPRITE_SIZE * 2);
-        imageView.setSmooth(true);
-        imageView.setCache(true);
-
-        return entityBuilder()
-                .at(data.getX(), data.getY())
-                .viewWithBBox(imageView)
-                .with(data.<Waiter>get("waiterComponent"))
-                .build();
+        return withSprite(entityBuilder()
+                        .at(data.getX(), data.getY())
+                        .with(data.<Waiter>get("waiterComponent")),
+                "image/personas/Mesera.png", PERSON_SIZE, data.getX(), data.getY());
     }
 
     @Spawns("cook")
     public Entity spawnCook(SpawnData data) {
-        List<String> imagePaths = List.of(
-                "image/personas/Cocinero.png",
-                "image/personas/Cocinero2.png"
-        );
-
-        Random rand = new Random();
-        String selectedPath = imagePaths.get(rand.nextInt(imagePaths.size()));
-        ImageView imageView = new ImageView(ImageCache.getImage(selectedPath));
-        imageView.setFitWidth(GameConfig.SPRITE_SIZE * 2);
-        imageView.setFitHeight(GameConfig.SPRITE_SIZE * 2);
-        imageView.setSmooth(true);
-        imageView.setCache(true);
-
-        return entityBuilder()
-                .at(data.getX(), data.getY())
-                .viewWithBBox(imageView)
-                .build();
+        String selectedPath = COOK_IMAGES.get(random.nextInt(COOK_IMAGES.size()));
+        return withSprite(entityBuilder()
+                        .at(data.getX(), data.getY()),
+                selectedPath, PERSON_SIZE, data.getX(), data.getY());
     }
 
     @Spawns("table")
     public Entity spawnTable(SpawnData data) {
-        ImageView imageView = new ImageView(ImageCache.getImage("image/objetos/Mesa1Persona.png"));
-        imageView.setFitWidth(GameConfig.SPRITE_SIZE * 9);
-        imageView.setFitHeight(GameConfig.SPRITE_SIZE * 9);
-        imageView.setSmooth(true);
-        imageView.setCache(true);
-
-        return entityBuilder()
-                .at(data.getX(), data.getY())
-                .viewWithBBox(imageView)
-                .with(new Table(data.get("tableNumber"), new Point2D(data.getX(), data.getY())))
-                .build();
+        return withSprite(entityBuilder()
+                        .at(data.getX(), data.getY())
+                        .with(new Table(data.get("tableNumber"), new Point2D(data.getX(), data.getY()))),
+                "image/objetos/Mesa1Persona.png", TABLE_SIZE, data.getX(), data.getY());
     }
 
     @Spawns("receptionist")
     public Entity spawnReceptionist(SpawnData data) {
-        ImageView imageView = new ImageView(ImageCache.getImage("image/personas/Recepcionista.png"));
-        imageView.setFitWidth(GameConfig.SPRITE_SIZE * 2);
-        imageView.setFitHeight(GameConfig.SPRITE_SIZE * 2);
-        imageView.setSmooth(true);
-        imageView.setCache(true);
+        return withSprite(entityBuilder()
+                        .at(GameConfig.RECEPTIONIST_X, GameConfig.RECEPTIONIST_Y)
+                        .with(data.<Receptionist>get("receptionistComponent")),
+                "image/personas/Recepcionista.png", PERSON_SIZE, GameConfig.RECEPTIONIST_X, GameConfig.RECEPTIONIST_Y);
+    }
+
+    // En modo CANVAS el sprite de una entidad que camina sigue a su agente de MovementSystem
+    public void followAgent(Entity entity, int agent) {
+        Integer sprite = sprites.get(entity);
+        if (sprite != null) {
+            canvasRenderer.follow(sprite, agent);
+        }
+    }
+
+    public void reskinCustomer(Entity entity) {
+        String path = nextCustomerSprite();
+        Integer sprite = sprites.get(entity);
+        if (sprite != null) {
+            canvasRenderer.setSprite(sprite, path);
+        } else {
+            ImageCache.setSprite(views.get(entity), path);
+        }
+    }
+
+    public void setVisible(Entity entity, boolean visible) {
+        Integer sprite = sprites.get(entity);
+        if (sprite != null) {
+            canvasRenderer.setVisible(sprite, visible);
+        } else {
+            entity.setVisible(visible);
+        }
+    }
+
+    private Entity withSprite(EntityBuilder builder, String path, double size, double x, double y) {
+        if (canvasRenderer == null) {
+            ImageView imageView = ImageCache.createView(path, size, size);
+            Entity entity = builder.viewWithBBox(imageView).build();
+            views.put(entity, imageView);
+            return entity;
+        }
+        Entity entity = builder.build();
+        sprites.put(entity, canvasRenderer.addSprite(path, x, y, size, size));
+        return entity;
+    }
 
-        return entityBuilder()
-                .at(GameConfig.RECEPTIONIST_X, GameConfig.RECEPTIONIST_Y)
-                .viewWithBBox(imageView)
-                .with(data.<Receptionist>get("receptionistComponent"))
-                .build();
+    private String nextCustomerSprite() {
+        return CUSTOMER_IMAGES.get(random.nextInt(CUSTOMER_IMAGES.size()));
     }
 }
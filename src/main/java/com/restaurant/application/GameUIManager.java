@@ -1,29 +1,37 @@
 package com.restaurant.application;
 
 import com.almasb.fxgl.entity.Entity;
-import com.restaurant.domain.models.CustomerStats;
+import com.restaurant.utils.ImageCache;
+import com.restaurant.utils.SimulationClock;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 
-import java.util.Objects;
-
 import static com.almasb.fxgl.dsl.FXGL.getGameScene;
 
 
 public class GameUIManager {
-    private final CustomerStats customerStats;
+    // Lo que avanza el botón "Paso" mientras la simulación está en pausa
+    private static final long STEP_MILLIS = 1000;
+
+    private final StatsPublisher statsPublisher;
+    private final SimulationClock simulationClock;
+    private Label clockLabel;
+    private long shownSeconds = -1;
 
-    public GameUIManager(CustomerStats customerStats) {
-        this.customerStats = customerStats;
+    public GameUIManager(StatsPublisher statsPublisher, SimulationClock simulationClock) {
+        this.statsPublisher = statsPublisher;
+        this.simulationClock = simulationClock;
     }
 
     public Entity createBackgroundEntity() {
-        Image backgroundImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/image/fondo.png")));
-        ImageView backgroundImageView = new ImageView(backgroundImage);
+        ImageView backgroundImageView = new ImageView(ImageCache.getImage(ImageCache.BACKGROUND, 0, 0));
 
         backgroundImageView.setFitWidth(1050);
         backgroundImageView.setFitHeight(1000);
@@ -40,11 +48,57 @@ public class GameUIManager {
         return backgroundEntity;
     }
 
-    public void initializeUI() {
+    // La semilla queda a la vista para poder repetir la corrida con -Drestaurant.seed
+    public void initializeUI(long seed) {
         VBox statsBox = createStatsBox();
+        statsBox.getChildren().add(createClockControls());
+        Label seedLabel = new Label("Semilla: " + seed);
+        seedLabel.setStyle("-fx-font-size: 11px;");
+        statsBox.getChildren().add(seedLabel);
         getGameScene().addUINode(statsBox);
     }
 
+    // Se llama en cada cuadro; la etiqueta sólo cambia cuando cambia el segundo simulado
+    public void updateClock() {
+        long seconds = simulationClock.now() / 1000;
+        if (seconds != shownSeconds) {
+            shownSeconds = seconds;
+            clockLabel.setText(String.format("Tiempo: %02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60));
+        }
+    }
+
+    // La barra es logarítmica para cubrir de 0.1× a 1000× con la misma precisión relativa
+    private VBox createClockControls() {
+        String labelStyle = "-fx-font-size: 14px; -fx-font-weight: bold;";
+        clockLabel = new Label();
+        clockLabel.setStyle(labelStyle);
+        Label speedLabel = new Label("Velocidad: 1×");
+        speedLabel.setStyle(labelStyle);
+
+        Slider speedSlider = new Slider(Math.log10(SimulationClock.MIN_SPEED), Math.log10(SimulationClock.MAX_SPEED), 0);
+        speedSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
+            double speed = Math.pow(10, newValue.doubleValue());
+            simulationClock.setSpeed(speed);
+            speedLabel.setText(String.format(speed < 10 ? "Velocidad: %.1f×" : "Velocidad: %.0f×", speed));
+        });
+
+        Button stepButton = new Button("Paso");
+        stepButton.setDisable(true);
+        stepButton.setOnAction(event -> simulationClock.step(STEP_MILLIS));
+
+        ToggleButton pauseButton = new ToggleButton("Pausa");
+        pauseButton.selectedProperty().addListener((observable, wasPaused, paused) -> {
+            if (paused) {
+                simulationClock.pause();
+            } else {
+                simulationClock.resume();
+            }
+            stepButton.setDisable(!paused);
+        });
+
+        return new VBox(5, clockLabel, speedLabel, speedSlider, new HBox(5, pauseButton, stepButton));
+    }
+
     private VBox createStatsBox() {
         VBox stats = new VBox(10);
         stats.setStyle("-fx-background-color: rgba(255, 255, 255, 0.8); -fx-padding: 10; -fx-background-radius: 5;");
@@ -54,40 +108,47 @@ public class GameUIManager {
         String labelStyle = "-fx-font-size: 14px; -fx-font-weight: bold;";
 
         Label waitingTableLabel = createStatsLabel(
-                customerStats.customersWaitingTableProperty(),
+                statsPublisher.customersWaitingTableProperty(),
                 "Esperando mesa: %d",
                 labelStyle
         );
 
         Label waitingFoodLabel = createStatsLabel(
-                customerStats.customersWaitingFoodProperty(),
+                statsPublisher.customersWaitingFoodProperty(),
                 "Esperando comida: %d",
                 labelStyle
         );
 
         Label eatingLabel = createStatsLabel(
-                customerStats.customersEatingProperty(),
+                statsPublisher.customersEatingProperty(),
                 "Comiendo: %d",
                 labelStyle
         );
 
         Label atTablesLabel = createStatsLabel(
-                customerStats.customersAtTablesProperty(),
+                statsPublisher.customersAtTablesProperty(),
                 "En mesas: %d",
                 labelStyle
         );
 
+        Label lostLabel = createStatsLabel(
+                statsPublisher.customersLostProperty(),
+                "Se fueron sin mesa: %d",
+                labelStyle
+        );
+
         stats.getChildren().addAll(
                 waitingTableLabel,
                 waitingFoodLabel,
                 eatingLabel,
-                atTablesLabel
+                atTablesLabel,
+                lostLabel
         );
 
         return stats;
     }
 
-    private Label createStatsLabel(javafx.beans.property.IntegerProperty property, String format, String style) {
+    private Label createStatsLabel(javafx.beans.property.ReadOnlyIntegerProperty property, String format, String style) {
         Label label = new Label();
         label.setTextFill(Color.BLACK);
         label.textProperty().bind(property.asString(format));
@@ -0,0 +1,53 @@
+package com.restaurant.application;
+
+import com.restaurant.domain.models.CustomerStats;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+// Copia los contadores a propiedades de JavaFX; se llama una vez por frame desde el hilo de FX.
+public class StatsPublisher {
+    private final CustomerStats customerStats;
+    private final SimpleIntegerProperty customersWaitingTable = new SimpleIntegerProperty(0);
+    private final SimpleIntegerProperty customersWaitingFood = new SimpleIntegerProperty(0);
+    private final SimpleIntegerProperty customersEating = new SimpleIntegerProperty(0);
+    private final SimpleIntegerProperty customersAtTables = new SimpleIntegerProperty(0);
+    private final SimpleIntegerProperty customersLost = new SimpleIntegerProperty(0);
+
+    public StatsPublisher(CustomerStats customerStats) {
+        this.customerStats = customerStats;
+    }
+
+    public void publish() {
+        update(customersWaitingTable, customerStats.getCustomersWaitingTable());
+        update(customersWaitingFood, customerStats.getCustomersWaitingFood());
+        update(customersEating, customerStats.getCustomersEating());
+        update(customersAtTables, customerStats.getCustomersAtTables());
+        update(customersLost, customerStats.getCustomersLost());
+    }
+
+    private void update(SimpleIntegerProperty property, long value) {
+        if (property.get() != value) {
+            property.set((int) value);
+        }
+    }
+
+    public ReadOnlyIntegerProperty customersWaitingTableProperty() {
+        return customersWaitingTable;
+    }
+
+    public ReadOnlyIntegerProperty customersWaitingFoodProperty() {
+        return customersWaitingFood;
+    }
+
+    public ReadOnlyIntegerProperty customersEatingProperty() {
+        return customersEating;
+    }
+
+    public ReadOnlyIntegerProperty customersAtTablesProperty() {
+        return customersAtTables;
+    }
+
+    public ReadOnlyIntegerProperty customersLostProperty() {
+        return customersLost;
+    }
+}
@@ -7,6 +7,8 @@ public class GameConfig {
     public static final int TOTAL_TABLES = 10;
     public static final int TOTAL_WAITERS = 1;
     public static final int TOTAL_COOKS = 1;
+    // Media de clientes que llegan en cada intervalo de llegadas (Poisson)
+    public static final double ARRIVAL_RATE = 0.4;
 
     // Posiciones fijas
     public static final double ENTRANCE_X = 900;
@@ -27,7 +29,21 @@ public class GameConfig {
     // Tiempos (en milisegundos)
     public static final int MIN_EATING_TIME = 5000;
     public static final int MAX_EATING_TIME = 10000;
+    public static final int ARRIVAL_INTERVAL = 3000;
+
+    // Llegadas: el instante simulado 0 son las 12:00 y se precalculan por lotes de un minuto
+    public static final long OPENING_TIME_MILLIS = 12L * 60 * 60 * 1000;
+    public static final long ARRIVAL_BATCH_MILLIS = 60_000;
+
+    // Pasos por segundo del hilo de simulación, independiente de los cuadros por segundo
+    public static final int SIMULATION_STEPS_PER_SECOND = 120;
+
+    // Cada cuánto (en tiempo real) el panel de gráficas toma una muestra y se redibuja
+    public static final int DASHBOARD_REFRESH_MILLIS = 250;
 
     // Dimensiones de los sprites
     public static final int SPRITE_SIZE = 32;
+
+    // Distribución de las mesas: 5 columnas desde (200, 3); el asiento queda a (100, 97) del sprite
+    public static final TableLayout TABLE_LAYOUT = new TableLayout(5, 200, 3, SPRITE_SIZE * 2, 100, 97);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.restaurant.config;
+
+// Cuadrícula de mesas: número de columnas, origen y separación de los sprites, y desplazamiento
+// del asiento (donde se para el cliente o el mesero) respecto al sprite de la mesa.
+public class TableLayout {
+    private final int columns;
+    private final double originX;
+    private final double originY;
+    private final double spacing;
+    private final double seatOffsetX;
+    private final double seatOffsetY;
+
+    public TableLayout(int columns, double originX, double originY, double spacing,
+                       double seatOffsetX, double seatOffsetY) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos una columna de mesas");
+        }
+        this.columns = columns;
+        this.originX = originX;
+        this.originY = originY;
+        this.spacing = spacing;
+        this.seatOffsetX = seatOffsetX;
+        this.seatOffsetY = seatOffsetY;
+    }
+
+    public double tableX(int tableNumber) {
+        return originX + (tableNumber % columns) * spacing;
+    }
+
+    public double tableY(int tableNumber) {
+        return originY + (tableNumber / columns) * spacing;
+    }
+
+    public double seatX(int tableNumber) {
+        return tableX(tableNumber) + seatOffsetX;
+    }
+
+    public double seatY(int tableNumber) {
+        return tableY(tableNumber) + seatOffsetY;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+}
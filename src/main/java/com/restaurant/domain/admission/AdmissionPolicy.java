@@ -0,0 +1,109 @@
+package com.restaurant.domain.admission;
+
+import java.util.SplittableRandom;
+
+// Cuándo un cliente que no encuentra mesa se va. Al llegar puede desistir (balking) con una
+// probabilidad que crece con la fila y nunca entra si la fila ya está llena; una vez formado,
+// abandona (reneging) al agotar una paciencia exponencial. Sin límites no se consume aleatoriedad,
+// así que una corrida sin control de admisión es idéntica a una anterior con la misma semilla.
+public class AdmissionPolicy {
+    public static final String MAX_QUEUE_PROPERTY = "restaurant.admission.maxQueue";
+    public static final String BALKING_PROPERTY = "restaurant.admission.balking";
+    public static final String PATIENCE_PROPERTY = "restaurant.admission.patience";
+    public static final long NO_PATIENCE_LIMIT = Long.MAX_VALUE;
+
+    private static final AdmissionPolicy UNLIMITED = new AdmissionPolicy(Integer.MAX_VALUE, 0, 0);
+
+    private final int maxQueueLength;
+    private final double balkingPerCustomer;
+    private final long meanPatienceMillis;
+
+    // balkingPerCustomer: probabilidad de irse que agrega cada cliente ya formado.
+    // meanPatienceMillis: espera media antes de abandonar la fila; 0 espera para siempre.
+    public AdmissionPolicy(int maxQueueLength, double balkingPerCustomer, long meanPatienceMillis) {
+        if (maxQueueLength < 0) {
+            throw new IllegalArgumentException("La fila máxima no puede ser negativa");
+        }
+        if (balkingPerCustomer < 0 || balkingPerCustomer > 1) {
+            throw new IllegalArgumentException("La probabilidad de desistir debe estar entre 0 y 1");
+        }
+        if (meanPatienceMillis < 0) {
+            throw new IllegalArgumentException("La paciencia no puede ser negativa");
+        }
+        this.maxQueueLength = maxQueueLength;
+        this.balkingPerCustomer = balkingPerCustomer;
+        this.meanPatienceMillis = meanPatienceMillis;
+    }
+
+    public static AdmissionPolicy unlimited() {
+        return UNLIMITED;
+    }
+
+    // -Drestaurant.admission.maxQueue=<clientes> -Drestaurant.admission.balking=<probabilidad por
+    // cliente en la fila> -Drestaurant.admission.patience=<segundos simulados de paciencia media>
+    public static AdmissionPolicy fromSystemProperties() {
+        return new AdmissionPolicy(
+                (int) parse(MAX_QUEUE_PROPERTY, Integer.MAX_VALUE),
+                parse(BALKING_PROPERTY, 0),
+                (long) (parse(PATIENCE_PROPERTY, 0) * 1000));
+    }
+
+    private static double parse(String property, double defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + property + ": " + value, e);
+        }
+    }
+
+    public AdmissionPolicy withMaxQueueLength(int maxQueueLength) {
+        return new AdmissionPolicy(maxQueueLength, balkingPerCustomer, meanPatienceMillis);
+    }
+
+    public AdmissionPolicy withBalkingPerCustomer(double balkingPerCustomer) {
+        return new AdmissionPolicy(maxQueueLength, balkingPerCustomer, meanPatienceMillis);
+    }
+
+    public AdmissionPolicy withMeanPatienceMillis(long meanPatienceMillis) {
+        return new AdmissionPolicy(maxQueueLength, balkingPerCustomer, meanPatienceMillis);
+    }
+
+    // queueLength es cuántos clientes esperan mesa antes que el que llega
+    public boolean admits(int queueLength, SplittableRandom random) {
+        if (queueLength >= maxQueueLength) {
+            return false;
+        }
+        if (balkingPerCustomer == 0 || queueLength == 0) {
+            return true;
+        }
+        return random.nextDouble() >= Math.min(1.0, queueLength * balkingPerCustomer);
+    }
+
+    public boolean hasPatienceLimit() {
+        return meanPatienceMillis > 0;
+    }
+
+    // Cuánto esperará en la fila este cliente, o NO_PATIENCE_LIMIT
+    public long drawPatience(SplittableRandom random) {
+        if (!hasPatienceLimit()) {
+            return NO_PATIENCE_LIMIT;
+        }
+        return Math.max(1, (long) (-meanPatienceMillis * Math.log(1 - random.nextDouble())));
+    }
+
+    public int getMaxQueueLength() { return maxQueueLength; }
+    public double getBalkingPerCustomer() { return balkingPerCustomer; }
+    public long getMeanPatienceMillis() { return meanPatienceMillis; }
+
+    @Override
+    public String toString() {
+        return String.format("fila máx. %s, desiste %.0f %% por cliente, paciencia %s",
+                maxQueueLength == Integer.MAX_VALUE ? "sin límite" : Integer.toString(maxQueueLength),
+                balkingPerCustomer * 100,
+                hasPatienceLimit() ? String.format("%.0f s", meanPatienceMillis / 1000.0) : "sin límite");
+    }
+}
@@ -0,0 +1,9 @@
+package com.restaurant.domain.arrivals;
+
+// Secuencia creciente de instantes de llegada en milisegundos simulados
+public interface ArrivalSource {
+    long NO_MORE_ARRIVALS = Long.MAX_VALUE;
+
+    // Siguiente llegada, o NO_MORE_ARRIVALS si la fuente se agotó
+    long nextArrival();
+}
@@ -0,0 +1,66 @@
+package com.restaurant.domain.arrivals;
+
+import java.util.Arrays;
+
+// Precalcula las llegadas por lotes de batchMillis y las entrega agrupadas: en cada cuadro
+// releaseDue() dice cuántas ya vencieron, sin un temporizador por cliente. Sólo se usa desde un hilo;
+// getReleased() puede leerse desde cualquiera.
+public class ArrivalTimeline {
+    private final ArrivalSource source;
+    private final long batchMillis;
+    private long[] pending = new long[64];
+    private int head;
+    private int tail;
+    private long horizon;
+    // Primera llegada que ya cae fuera del lote actual
+    private long lookahead;
+    private volatile long released;
+
+    public ArrivalTimeline(ArrivalSource source, long batchMillis) {
+        if (batchMillis <= 0) {
+            throw new IllegalArgumentException("El lote debe durar más de 0 ms");
+        }
+        this.source = source;
+        this.batchMillis = batchMillis;
+        this.lookahead = source.nextArrival();
+    }
+
+    // Descarta las llegadas vencidas hasta now y devuelve cuántas eran
+    public int releaseDue(long now) {
+        int due = 0;
+        while (true) {
+            while (head < tail && pending[head] <= now) {
+                head++;
+                due++;
+            }
+            if (head < tail || lookahead == ArrivalSource.NO_MORE_ARRIVALS || lookahead > now && horizon > now) {
+                break;
+            }
+            fillBatch(Math.max(horizon, now));
+        }
+        released += due;
+        return due;
+    }
+
+    // Instante de la próxima llegada pendiente
+    public long peek() {
+        return head < tail ? pending[head] : lookahead;
+    }
+
+    public long getReleased() {
+        return released;
+    }
+
+    private void fillBatch(long from) {
+        head = 0;
+        tail = 0;
+        horizon = from + batchMillis;
+        while (lookahead < horizon) {
+            if (tail == pending.length) {
+                pending = Arrays.copyOf(pending, tail * 2);
+            }
+            pending[tail++] = lookahead;
+            lookahead = source.nextArrival();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.restaurant.domain.arrivals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Convierte una traza de llegadas CSV al formato binario de TraceArrivalSource, que se lee sin
+// interpretar texto. Uso: ArrivalTraceTool <entrada.csv> <salida.bin>
+public class ArrivalTraceTool {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: ArrivalTraceTool <entrada.csv> <salida.bin>");
+            System.exit(1);
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        long written = 0;
+        try (TraceArrivalSource source = TraceArrivalSource.open(input);
+             FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(TraceArrivalSource.MAGIC).putInt(TraceArrivalSource.VERSION).putLong(0);
+
+            // Se vuelven a agrupar las llegadas del mismo instante en un solo registro
+            long time = source.nextArrival();
+            while (time != ArrivalSource.NO_MORE_ARRIVALS) {
+                int party = 1;
+                long next = source.nextArrival();
+                while (next == time) {
+                    party++;
+                    next = source.nextArrival();
+                }
+                if (buffer.remaining() < TraceArrivalSource.RECORD_SIZE) {
+                    drain(buffer, channel);
+                }
+                buffer.putLong(time).putInt(party).putInt(0);
+                written++;
+                time = next;
+            }
+            drain(buffer, channel);
+            System.out.printf("%d registros escritos en %s (%d fuera de orden corregidos)%n",
+                    written, output, source.getReordered());
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,166 @@
+package com.restaurant.domain.arrivals;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Tasa de llegadas a lo largo de un día, lineal entre puntos de control y periódica cada 24 h.
+// Las tasas se guardan en clientes por segundo; los archivos las expresan en clientes por hora.
+public class RateProfile {
+    public static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    public static final String PROPERTY = "restaurant.arrivals";
+    // En hora pico llegan este múltiplo de la tasa base
+    private static final double RUSH_FACTOR = 3.0;
+
+    private final long[] times;
+    private final double[] rates;
+    private final double maxRate;
+
+    private RateProfile(long[] times, double[] rates) {
+        if (times.length == 0) {
+            throw new IllegalArgumentException("El perfil necesita al menos un punto");
+        }
+        this.times = times;
+        this.rates = rates;
+        this.maxRate = Arrays.stream(rates).max().orElse(0);
+        if (maxRate <= 0) {
+            throw new IllegalArgumentException("El perfil debe tener alguna tasa mayor que 0");
+        }
+    }
+
+    public static RateProfile constant(double perSecond) {
+        return new RateProfile(new long[]{0}, new double[]{perSecond});
+    }
+
+    // Base todo el día con picos de comida (13:00-15:00) y cena (20:00-22:00)
+    public static RateProfile rushHours(double basePerSecond) {
+        double peak = basePerSecond * RUSH_FACTOR;
+        return new Builder()
+                .at(0, 0, basePerSecond)
+                .at(12, 0, basePerSecond)
+                .at(13, 30, peak)
+                .at(14, 30, peak)
+                .at(16, 0, basePerSecond)
+                .at(19, 0, basePerSecond)
+                .at(20, 30, peak)
+                .at(21, 30, peak)
+                .at(23, 0, basePerSecond)
+                .build();
+    }
+
+    // Una línea por punto: "HH:MM,clientes_por_hora"; se ignoran líneas vacías y las que empiezan con #
+    public static RateProfile load(Path path) {
+        try {
+            return parse(Files.readAllLines(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el perfil de llegadas " + path, e);
+        }
+    }
+
+    public static RateProfile parse(List<String> lines) {
+        Builder builder = new Builder();
+        for (String raw : lines) {
+            String line = raw.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            String[] clock = fields[0].strip().split(":");
+            if (fields.length != 2 || clock.length != 2) {
+                throw new IllegalArgumentException("Línea de perfil inválida: " + raw);
+            }
+            builder.at(Integer.parseInt(clock[0]), Integer.parseInt(clock[1]),
+                    Double.parseDouble(fields[1].strip()) / 3600.0);
+        }
+        return builder.build();
+    }
+
+    // constant, rush o la ruta de un archivo de perfil
+    public static RateProfile fromSystemProperties(double basePerSecond) {
+        return named(System.getProperty(PROPERTY, "constant"), basePerSecond);
+    }
+
+    public static RateProfile named(String name, double basePerSecond) {
+        return switch (name) {
+            case "constant" -> constant(basePerSecond);
+            case "rush" -> rushHours(basePerSecond);
+            default -> load(Path.of(name));
+        };
+    }
+
+    // Clientes por segundo en el instante dado, medido desde la medianoche
+    public double rateAt(long millisOfDay) {
+        long t = Math.floorMod(millisOfDay, DAY_MILLIS);
+        int next = Arrays.binarySearch(times, t);
+        if (next >= 0) {
+            return rates[next];
+        }
+        next = -next - 1;
+        int previous = next - 1;
+        long fromTime;
+        long toTime;
+        if (previous < 0) {
+            previous = times.length - 1;
+            fromTime = times[previous] - DAY_MILLIS;
+        } else {
+            fromTime = times[previous];
+        }
+        if (next == times.length) {
+            next = 0;
+            toTime = times[0] + DAY_MILLIS;
+        } else {
+            toTime = times[next];
+        }
+        double fraction = toTime == fromTime ? 0 : (t - fromTime) / (double) (toTime - fromTime);
+        return rates[previous] + (rates[next] - rates[previous]) * fraction;
+    }
+
+    public double getMaxRate() {
+        return maxRate;
+    }
+
+    // Llegadas esperadas entre dos instantes, integrando la tasa minuto a minuto
+    public double expectedArrivals(long fromMillis, long toMillis) {
+        double total = 0;
+        for (long t = fromMillis; t < toMillis; t += 60_000) {
+            long end = Math.min(toMillis, t + 60_000);
+            total += (rateAt(t) + rateAt(end)) / 2 * (end - t) / 1000.0;
+        }
+        return total;
+    }
+
+    public static class Builder {
+        private final List<Long> points = new ArrayList<>();
+        private final List<Double> pointRates = new ArrayList<>();
+
+        public Builder at(int hour, int minute, double perSecond) {
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                throw new IllegalArgumentException("Hora inválida: " + hour + ":" + minute);
+            }
+            if (perSecond < 0) {
+                throw new IllegalArgumentException("La tasa no puede ser negativa");
+            }
+            long time = (hour * 60L + minute) * 60_000;
+            if (!points.isEmpty() && points.get(points.size() - 1) >= time) {
+                throw new IllegalArgumentException("Los puntos del perfil deben ir en orden creciente");
+            }
+            points.add(time);
+            pointRates.add(perSecond);
+            return this;
+        }
+
+        public RateProfile build() {
+            long[] times = new long[points.size()];
+            double[] rates = new double[points.size()];
+            for (int i = 0; i < times.length; i++) {
+                times[i] = points.get(i);
+                rates[i] = pointRates.get(i);
+            }
+            return new RateProfile(times, rates);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.restaurant.domain.arrivals;
+
+import java.util.SplittableRandom;
+
+// Proceso de Poisson no homogéneo por adelgazamiento (Lewis y Shedler, 1979): se proponen llegadas a
+// la tasa máxima del perfil y cada una se acepta con probabilidad tasa(t) / tasa máxima.
+// No es segura entre hilos, igual que PoissonDistribution.
+public class ThinningArrivalSource implements ArrivalSource {
+    private final RateProfile profile;
+    private final long openingMillis;
+    private final SplittableRandom random;
+    private final double meanGapMillis;
+    private final double maxRate;
+    private double time;
+
+    // openingMillis: hora del día que corresponde al instante simulado 0
+    public ThinningArrivalSource(RateProfile profile, long openingMillis, SplittableRandom random) {
+        this.profile = profile;
+        this.openingMillis = openingMillis;
+        this.random = random;
+        this.maxRate = profile.getMaxRate();
+        this.meanGapMillis = 1000.0 / maxRate;
+    }
+
+    @Override
+    public long nextArrival() {
+        while (true) {
+            time -= Math.log(1.0 - random.nextDouble()) * meanGapMillis;
+            long candidate = (long) time;
+            if (random.nextDouble() * maxRate < profile.rateAt(openingMillis + candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.restaurant.domain.arrivals;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+// Reproduce llegadas registradas (por ejemplo, del punto de venta) leyendo el archivo por bloques con
+// un búfer fijo, así que la memoria no depende del tamaño de la traza. Los tiempos se desplazan para
+// que la primera llegada ocurra en el instante simulado 0, y un grupo de N personas produce N llegadas
+// en el mismo instante. Acepta dos formatos:
+// - CSV: "marca_de_tiempo[,personas]" por línea, con la marca en milisegundos epoch o ISO-8601 local
+//   (2024-03-01T13:05:00 o 2024-03-01 13:05:00); se ignoran las líneas que empiezan con # y un encabezado en la primera.
+// - Binario: encabezado de 16 bytes (magic, versión) y registros little-endian de 16 bytes:
+//   tiempo en ms (8) | personas (4) | relleno (4). ArrivalTraceTool convierte de CSV a binario.
+// Los registros fuera de orden se adelantan al tiempo del anterior. No es segura entre hilos.
+public class TraceArrivalSource implements ArrivalSource, AutoCloseable {
+    public static final String PATH_PROPERTY = "restaurant.arrivals.trace";
+    static final int MAGIC = 0x52524152; // "RARR"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 16;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final boolean binary;
+    private final StringBuilder field = new StringBuilder();
+    private boolean endOfFile;
+    private long origin = Long.MIN_VALUE;
+    private long lastTime;
+    private long pendingTime;
+    private int pendingParty;
+    private long records;
+    private long reordered;
+    private long lineNumber;
+
+    private TraceArrivalSource(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        buffer.flip();
+        fill(HEADER_SIZE);
+        binary = buffer.remaining() >= 4 && buffer.getInt(buffer.position()) == MAGIC;
+        if (binary) {
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt(buffer.position() + 4) != VERSION) {
+                throw new IOException("Versión de traza de llegadas no soportada: " + path);
+            }
+            buffer.position(buffer.position() + HEADER_SIZE);
+        }
+    }
+
+    public static TraceArrivalSource open(Path path) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new TraceArrivalSource(path, channel);
+        } catch (IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new UncheckedIOException("No se pudo abrir la traza de llegadas " + path, e);
+        }
+    }
+
+    @Override
+    public long nextArrival() {
+        if (pendingParty > 0) {
+            pendingParty--;
+            return pendingTime;
+        }
+        try {
+            return binary ? nextBinary() : nextCsv();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error al leer la traza de llegadas " + path, e);
+        }
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getReordered() {
+        return reordered;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long nextBinary() throws IOException {
+        while (true) {
+            fill(RECORD_SIZE);
+            if (buffer.remaining() < RECORD_SIZE) {
+                return NO_MORE_ARRIVALS;
+            }
+            long time = buffer.getLong();
+            int party = buffer.getInt();
+            buffer.getInt();
+            if (party > 0) {
+                return accept(time, party);
+            }
+        }
+    }
+
+    private long nextCsv() throws IOException {
+        while (true) {
+            lineNumber++;
+            int end = readField();
+            if (end == -1 && field.isEmpty()) {
+                return NO_MORE_ARRIVALS;
+            }
+            if (field.isEmpty() || field.charAt(0) == '#'
+                    || lineNumber == 1 && Character.isLetter(field.charAt(0))) {
+                skipLine(end);
+                continue;
+            }
+            long time = parseTime();
+            int party = 1;
+            if (end == ',') {
+                end = readField();
+                if (!field.isEmpty()) {
+                    party = (int) parseLong(field);
+                }
+            }
+            skipLine(end);
+            if (party > 0) {
+                return accept(time, party);
+            }
+        }
+    }
+
+    private long accept(long time, int party) {
+        if (origin == Long.MIN_VALUE) {
+            origin = time;
+        }
+        long relative = time - origin;
+        if (relative < lastTime) {
+            relative = lastTime;
+            reordered++;
+        }
+        lastTime = relative;
+        records++;
+        pendingTime = relative;
+        pendingParty = party - 1;
+        return relative;
+    }
+
+    // Lee hasta la siguiente coma o fin de línea; devuelve el separador, o -1 al final del archivo
+    private int readField() throws IOException {
+        field.setLength(0);
+        while (true) {
+            int b = nextByte();
+            if (b == -1 || b == ',' || b == '\n') {
+                while (!field.isEmpty() && field.charAt(field.length() - 1) == ' ') {
+                    field.setLength(field.length() - 1);
+                }
+                return b;
+            }
+            if (b != '\r' && b != '"' && !(b == ' ' && field.isEmpty())) {
+                field.append((char) b);
+            }
+        }
+    }
+
+    private void skipLine(int separator) throws IOException {
+        int b = separator;
+        while (b != '\n' && b != -1) {
+            b = nextByte();
+        }
+    }
+
+    private long parseTime() throws IOException {
+        if (isNumber(field)) {
+            return parseLong(field);
+        }
+        // También se acepta un espacio entre fecha y hora, como lo exportan muchas hojas de cálculo
+        if (field.length() > 10 && field.charAt(10) == ' ') {
+            field.setCharAt(10, 'T');
+        }
+        try {
+            LocalDateTime time = LocalDateTime.parse(field);
+            return time.toEpochSecond(ZoneOffset.UTC) * 1000 + time.getNano() / 1_000_000;
+        } catch (DateTimeParseException e) {
+            throw new IOException("Marca de tiempo inválida en la línea " + lineNumber + ": " + field, e);
+        }
+    }
+
+    private static boolean isNumber(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseLong(CharSequence text) throws IOException {
+        if (!isNumber(text)) {
+            throw new IOException("Número inválido en la línea " + lineNumber + ": " + text);
+        }
+        long value = 0;
+        for (int i = 0; i < text.length(); i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private int nextByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            fill(1);
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    // Asegura al menos required bytes en el búfer salvo que el archivo se termine antes
+    private void fill(int required) throws IOException {
+        if (buffer.remaining() >= required || endOfFile) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < required && !endOfFile) {
+            if (channel.read(buffer) == -1) {
+                endOfFile = true;
+            }
+        }
+        buffer.flip();
+    }
+}
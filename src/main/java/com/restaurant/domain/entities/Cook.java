@@ -2,28 +2,40 @@ package com.restaurant.domain.entities;
 
 import com.restaurant.domain.models.Order;
 import com.restaurant.domain.monitors.OrderQueueMonitor;
+import com.restaurant.utils.SimulationClock;
 
 public class Cook implements Runnable {
+    private final int id;
     private final OrderQueueMonitor orderQueueMonitor;
+    private final SimulationClock clock;
     private volatile boolean isResting;
     private Order currentOrder;
+    // Tiempo simulado de trabajo; sólo lo escribe el hilo del cocinero
+    private volatile long busyMillis;
+    private volatile long busySince;
+    private final long startedAt;
 
-    public Cook(int id, OrderQueueMonitor orderQueueMonitor) {
+    public Cook(int id, OrderQueueMonitor orderQueueMonitor, SimulationClock clock) {
+        this.id = id;
         this.orderQueueMonitor = orderQueueMonitor;
+        this.clock = clock;
         this.isResting = true;
+        this.startedAt = clock.now();
     }
 
     @Override
     public void run() {
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                currentOrder = orderQueueMonitor.getNextOrder();
+                currentOrder = orderQueueMonitor.getNextOrder(id);
+                busySince = clock.now();
                 isResting = false;
 
-                Thread.sleep(currentOrder.getPreparationTime());
+                clock.sleep(currentOrder.getPreparationTime());
 
                 orderQueueMonitor.markOrderAsReady(currentOrder);
                 currentOrder = null;
+                busyMillis += clock.now() - busySince;
                 isResting = true;
 
             } catch (InterruptedException e) {
@@ -32,4 +44,23 @@ public class Cook implements Runnable {
             }
         }
     }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean isBusy() {
+        return !isResting;
+    }
+
+    public long getBusyMillis() {
+        long busy = busyMillis;
+        return isResting ? busy : busy + Math.max(0, clock.now() - busySince);
+    }
+
+    // Fracción del tiempo simulado desde que se creó que el cocinero pasó preparando órdenes
+    public double getUtilization() {
+        long elapsed = clock.now() - startedAt;
+        return elapsed <= 0 ? 0 : Math.min(1.0, (double) getBusyMillis() / elapsed);
+    }
 }
\ No newline at end of file
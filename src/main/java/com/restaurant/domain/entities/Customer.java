@@ -4,27 +4,51 @@ import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.component.Component;
 import com.restaurant.domain.models.CustomerStats;
 import com.restaurant.domain.monitors.RestaurantMonitor;
+import com.restaurant.domain.movement.MovementSystem;
 import com.restaurant.domain.monitors.OrderQueueMonitor;
 import com.restaurant.domain.monitors.CustomerQueueMonitor;
 import com.restaurant.config.GameConfig;
+import com.restaurant.metrics.LatencyPhase;
+import com.restaurant.metrics.LatencyRecorder;
+import com.restaurant.trace.TraceEventType;
+import com.restaurant.trace.TraceRecorder;
+import com.restaurant.utils.AgentExecutor;
+import com.restaurant.utils.SimulationClock;
 import javafx.geometry.Point2D;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
 
 public class Customer extends Component {
     private final RestaurantMonitor restaurantMonitor;
     private final OrderQueueMonitor orderQueueMonitor;
-    private final CustomerQueueMonitor customerQueueMonitor;
+    private final CustomerQueueMonitor<Customer> customerQueueMonitor;
     private final CustomerStats customerStats;
-    private final List<Entity> tables;
+    private final TableRegistry tableRegistry;
+    private final AgentExecutor agentExecutor;
+    private final SplittableRandom random;
+    private final Consumer<Customer> onDeparture;
+    private Receptionist receptionist;
     private int tableNumber = -1;
-    private Point2D targetPosition;
-    private boolean isMoving = false;
+    private final MovementSystem movementSystem;
+    private final SimulationClock clock;
+    private int movementAgent = -1;
+    private int currentMoveId;
     private boolean isWaitingForTable = false;
     private CustomerState state = CustomerState.ENTERING;
     private static final double SPEED = GameConfig.CUSTOMER_SPEED;
-    private final int id;
-    private final Object stateLock = new Object();
+    private static final Point2D ENTRANCE_POSITION = new Point2D(GameConfig.ENTRANCE_X, GameConfig.ENTRANCE_Y);
+    private static final Point2D RECEPTION_POSITION = new Point2D(
+            GameConfig.RECEPTIONIST_X - GameConfig.SPRITE_SIZE * 2,
+            GameConfig.RECEPTIONIST_Y
+    );
+    // Volátil porque la recepción lo consulta desde el temporizador de paciencia sin tomar stateLock
+    private volatile int id;
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final LatencyRecorder latencyRecorder = LatencyRecorder.global();
+    private long arrivedAt;
+    private long receptionAt;
+    private long phaseStartedAt;
 
     public enum CustomerState {
         ENTERING,
@@ -39,92 +63,164 @@ public class Customer extends Component {
     }
 
     public Customer(int id, RestaurantMonitor restaurantMonitor, OrderQueueMonitor orderQueueMonitor,
-                    CustomerQueueMonitor customerQueueMonitor, CustomerStats customerStats, List<Entity> tables) {
+                    CustomerQueueMonitor<Customer> customerQueueMonitor, CustomerStats customerStats, TableRegistry tableRegistry,
+                    AgentExecutor agentExecutor, SplittableRandom random, MovementSystem movementSystem,
+                    SimulationClock clock,
+                    Consumer<Customer> onDeparture) {
         this.id = id;
         this.restaurantMonitor = restaurantMonitor;
         this.orderQueueMonitor = orderQueueMonitor;
         this.customerQueueMonitor = customerQueueMonitor;
         this.customerStats = customerStats;
-        this.tables = tables;
+        this.tableRegistry = tableRegistry;
+        this.agentExecutor = agentExecutor;
+        this.random = random;
+        this.movementSystem = movementSystem;
+        this.clock = clock;
+        this.onDeparture = onDeparture;
     }
 
     @Override
     public void onAdded() {
-        entity.setPosition(GameConfig.ENTRANCE_X, GameConfig.ENTRANCE_Y);
-        moveToReceptionist();
+        // Se resuelve aquí, en el hilo de JavaFX; las llegadas se notifican desde el hilo de simulación
+        receptionist = findReceptionist();
+        movementAgent = movementSystem.register(entity, ENTRANCE_POSITION.getX(), ENTRANCE_POSITION.getY(), SPEED,
+                this::onArrival);
+        start();
     }
 
     @Override
-    public void onUpdate(double tpf) {
-        if (isMoving && targetPosition != null) {
-            Point2D currentPos = entity.getPosition();
-            Point2D direction = targetPosition.subtract(currentPos);
+    public void onRemoved() {
+        movementSystem.unregister(movementAgent);
+    }
+
+    // Arranca el recorrido desde la entrada; el pool lo vuelve a llamar al reutilizar la entidad
+    public void start() {
+        arrivedAt = clock.now();
+        movementSystem.place(movementAgent, ENTRANCE_POSITION.getX(), ENTRANCE_POSITION.getY());
+        moveToReceptionist();
+    }
+
+    public int getMovementAgent() {
+        return movementAgent;
+    }
+
+    public int getId() {
+        return id;
+    }
 
-            if (direction.magnitude() < SPEED * tpf) {
-                entity.setPosition(targetPosition);
+    public void reset(int id) {
+        stateLock.lock();
+        try {
+            this.id = id;
+            tableNumber = -1;
+            movementSystem.stop(movementAgent);
+            isWaitingForTable = false;
+            state = CustomerState.ENTERING;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void onArrival(int moveId) {
+        stateLock.lock();
+        try {
+            if (moveId == currentMoveId) {
                 onTargetReached();
-                return;
             }
-
-            direction = direction.normalize().multiply(SPEED * tpf);
-            entity.translate(direction.getX(), direction.getY());
+        } finally {
+            stateLock.unlock();
         }
     }
 
-    private void onTargetReached() {
-        isMoving = false;
-        targetPosition = null;
+    private void moveTo(Point2D target) {
+        currentMoveId = movementSystem.moveTo(movementAgent, target.getX(), target.getY());
+    }
 
+    private void onTargetReached() {
         switch (state) {
             case ENTERING:
-                synchronized (stateLock) {
+                stateLock.lock();
+                try {
                     state = CustomerState.WAITING_FOR_RECEPTIONIST;
-                    Entity receptionistEntity = findReceptionist();
-                    if (receptionistEntity != null) {
-                        Receptionist receptionist = receptionistEntity.getComponent(Receptionist.class);
+                    receptionAt = clock.now();
+                    if (receptionist != null) {
                         receptionist.addCustomerToQueue(this);
                     }
+                } finally {
+                    stateLock.unlock();
                 }
                 break;
             case MOVING_TO_TABLE:
-                synchronized (stateLock) {
+                stateLock.lock();
+                try {
                     if (isWaitingForTable) {
                         customerStats.decrementWaitingForTable();
                         isWaitingForTable = false;
                     }
                     customerStats.incrementWaitingForFood();
                     state = CustomerState.WAITING_FOR_WAITER;
+                    phaseStartedAt = clock.now();
                     notifyWaiter();
+                } finally {
+                    stateLock.unlock();
                 }
                 break;
             case LEAVING:
-                synchronized (stateLock) {
-                    customerStats.decrementEating();
-                    entity.removeFromWorld();
+                stateLock.lock();
+                try {
+                    // Quien se fue sin mesa no cuenta como atendido
+                    if (tableNumber != -1) {
+                        customerStats.decrementEating();
+                        recordPhase(LatencyPhase.TIME_IN_RESTAURANT, arrivedAt);
+                    }
+                    onDeparture.accept(this);
+                } finally {
+                    stateLock.unlock();
                 }
                 break;
         }
     }
 
-    private Entity findReceptionist() {
+    private Receptionist findReceptionist() {
         for (Entity entity : entity.getWorld().getEntitiesByComponent(Receptionist.class)) {
-            return entity;
+            return entity.getComponent(Receptionist.class);
         }
         return null;
     }
 
     public void assignTable(int tableNumber) {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             this.tableNumber = tableNumber;
+            recordPhase(LatencyPhase.WAITING_FOR_TABLE, receptionAt);
+            TraceRecorder.global().record(TraceEventType.TABLE_ASSIGNED, id, tableNumber);
             state = CustomerState.MOVING_TO_TABLE;
             moveToTable();
+        } finally {
+            stateLock.unlock();
         }
     }
 
     public void waitForTable() {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             state = CustomerState.WAITING_FOR_TABLE;
             isWaitingForTable = true;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    // Desistió al ver la fila o se cansó de esperar mesa
+    public void leaveWithoutTable() {
+        stateLock.lock();
+        try {
+            isWaitingForTable = false;
+            state = CustomerState.LEAVING;
+            moveTo(ENTRANCE_POSITION);
+        } finally {
+            stateLock.unlock();
         }
     }
 
@@ -133,74 +229,75 @@ public class Customer extends Component {
         state = CustomerState.WAITING_FOR_WAITER;
     }
 
+    public void orderTaken() {
+        stateLock.lock();
+        try {
+            state = CustomerState.WAITING_FOR_FOOD;
+            phaseStartedAt = recordPhase(LatencyPhase.WAITING_FOR_WAITER, phaseStartedAt);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
     public void startEating() {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             state = CustomerState.EATING;
+            phaseStartedAt = recordPhase(LatencyPhase.WAITING_FOR_FOOD, phaseStartedAt);
             customerStats.decrementWaitingForFood();
             customerStats.incrementEating();
 
-            new Thread(() -> {
+            agentExecutor.execute(() -> {
                 try {
-                    Thread.sleep(ThreadLocalRandom.current().nextLong(
+                    clock.sleep(random.nextLong(
                             GameConfig.MIN_EATING_TIME,
                             GameConfig.MAX_EATING_TIME
                     ));
 
-                    synchronized (stateLock) {
+                    stateLock.lock();
+                    try {
                         if (state == CustomerState.EATING) {
+                            recordPhase(LatencyPhase.EATING, phaseStartedAt);
                             if (tableNumber != -1) {
-                                restaurantMonitor.releaseTable(tableNumber);
-
-                                for (Entity tableEntity : tables) {
-                                    Table table = tableEntity.getComponent(Table.class);
-                                    if (table != null && table.getNumber() == tableNumber) {
-                                        table.release();
-                                        break;
-                                    }
-                                }
+                                // La mesa se limpia antes de entregarla: el siguiente cliente puede
+                                // sentarse en cuanto el monitor la suelta
+                                tableRegistry.getTable(tableNumber).release();
+                                TraceRecorder.global().record(TraceEventType.TABLE_RELEASED, id, tableNumber);
+                                restaurantMonitor.release(tableNumber);
                             }
                             state = CustomerState.LEAVING;
-                            targetPosition = new Point2D(GameConfig.ENTRANCE_X, GameConfig.ENTRANCE_Y);
-                            isMoving = true;
+                            moveTo(ENTRANCE_POSITION);
                         }
+                    } finally {
+                        stateLock.unlock();
                     }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                 }
-            }).start();
+            });
+        } finally {
+            stateLock.unlock();
         }
     }
 
+    private long recordPhase(LatencyPhase phase, long startedAt) {
+        long now = clock.now();
+        latencyRecorder.record(phase, now - startedAt);
+        return now;
+    }
+
     private void moveToReceptionist() {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             state = CustomerState.ENTERING;
-            targetPosition = new Point2D(
-                    GameConfig.RECEPTIONIST_X - GameConfig.SPRITE_SIZE * 2,
-                    GameConfig.RECEPTIONIST_Y
-            );
-            isMoving = true;
+            moveTo(RECEPTION_POSITION);
+        } finally {
+            stateLock.unlock();
         }
     }
 
     private void moveToTable() {
-        targetPosition = calculateTablePosition(tableNumber);
-        isMoving = true;
-
-        for (Entity tableEntity : tables) {
-            Table table = tableEntity.getComponent(Table.class);
-            if (table != null && table.getNumber() == tableNumber) {
-                table.setCurrentCustomer(this);
-                break;
-            }
-        }
-    }
-
-    private Point2D calculateTablePosition(int tableNumber) {
-        int row = tableNumber / 5;
-        int col = tableNumber % 5;
-        return new Point2D(
-                300 + col * (GameConfig.SPRITE_SIZE * 2),
-                100 + row * (GameConfig.SPRITE_SIZE * 2)
-        );
+        moveTo(tableRegistry.getSeatPosition(tableNumber));
+        tableRegistry.getTable(tableNumber).setCurrentCustomer(this);
     }
 }
\ No newline at end of file
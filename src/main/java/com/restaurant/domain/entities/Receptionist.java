@@ -1,74 +1,138 @@
 package com.restaurant.domain.entities;
 
 import com.almasb.fxgl.entity.component.Component;
+import com.restaurant.domain.admission.AdmissionPolicy;
 import com.restaurant.domain.monitors.RestaurantMonitor;
 import com.restaurant.domain.models.CustomerStats;
+import com.restaurant.trace.TraceEventType;
+import com.restaurant.trace.TraceRecorder;
+import com.restaurant.utils.AgentExecutor;
+import com.restaurant.utils.SimulationClock;
 import javafx.geometry.Point2D;
 import java.util.Queue;
 import java.util.LinkedList;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class Receptionist extends Component {
     private final Point2D position;
     private final RestaurantMonitor restaurantMonitor;
     private final Queue<Customer> waitingCustomers;
-    private final Object monitor = new Object();
-    private boolean isBusy;
+    private final ReentrantLock monitor = new ReentrantLock();
+    private final Condition customerWaiting = monitor.newCondition();
     private final CustomerStats customerStats;
+    private final AgentExecutor agentExecutor;
+    private final AdmissionPolicy admissionPolicy;
+    // Sólo se usa con monitor tomado
+    private final SplittableRandom random;
+    private final SimulationClock clock;
 
-    public Receptionist(RestaurantMonitor restaurantMonitor, Point2D position, CustomerStats customerStats) {
+    public Receptionist(RestaurantMonitor restaurantMonitor, Point2D position, CustomerStats customerStats,
+                        AgentExecutor agentExecutor, AdmissionPolicy admissionPolicy, SplittableRandom random,
+                        SimulationClock clock) {
         this.restaurantMonitor = restaurantMonitor;
         this.position = position;
         this.customerStats = customerStats;
+        this.agentExecutor = agentExecutor;
+        this.admissionPolicy = admissionPolicy;
+        this.random = random;
+        this.clock = clock;
         this.waitingCustomers = new LinkedList<>();
-        this.isBusy = false;
 
         startReceptionistBehavior();
     }
 
     private void startReceptionistBehavior() {
-        new Thread(() -> {
+        agentExecutor.execute(() -> {
             while (!Thread.currentThread().isInterrupted()) {
                 try {
                     processNextCustomer();
-                    Thread.sleep(500);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
                 }
             }
-        }).start();
+        });
     }
 
     public void addCustomerToQueue(Customer customer) {
-        synchronized (monitor) {
-            int tableNumber = restaurantMonitor.findAvailableTable();
+        monitor.lock();
+        try {
+            int tableNumber = waitingCustomers.isEmpty() ? restaurantMonitor.tryAcquire() : -1;
 
             if (tableNumber != -1) {
-                restaurantMonitor.occupyTable(tableNumber);
                 customer.assignTable(tableNumber);
+            } else if (!admissionPolicy.admits(waitingCustomers.size(), random)) {
+                customerStats.incrementBalked();
+                TraceRecorder.global().record(TraceEventType.CUSTOMER_BALKED, customer.getId(), -1);
+                customer.leaveWithoutTable();
             } else {
                 waitingCustomers.add(customer);
                 customerStats.incrementWaitingForTable();
                 customer.waitForTable();
-                monitor.notify();
+                customerWaiting.signal();
+                if (admissionPolicy.hasPatienceLimit()) {
+                    int visit = customer.getId();
+                    clock.schedule(() -> renege(customer, visit), admissionPolicy.drawPatience(random));
+                }
             }
+        } finally {
+            monitor.unlock();
+        }
+    }
+
+    // El cliente pudo haber conseguido mesa, o el pool pudo haberlo reutilizado con otro id, antes
+    // de que se agotara su paciencia; en ambos casos ya no está en la fila con esa visita
+    private void renege(Customer customer, int visit) {
+        monitor.lock();
+        try {
+            if (customer.getId() != visit || !waitingCustomers.remove(customer)) {
+                return;
+            }
+            customerStats.abandonWaitingForTable();
+        } finally {
+            monitor.unlock();
+        }
+        TraceRecorder.global().record(TraceEventType.CUSTOMER_RENEGED, visit, -1);
+        customer.leaveWithoutTable();
+    }
+
+    public int getWaitingCount() {
+        monitor.lock();
+        try {
+            return waitingCustomers.size();
+        } finally {
+            monitor.unlock();
         }
     }
 
+    // El primero de la fila conserva su lugar mientras se espera la mesa, así quien llega
+    // después no puede adelantarse con tryAcquire.
     private void processNextCustomer() throws InterruptedException {
-        synchronized (monitor) {
-            while (!waitingCustomers.isEmpty()) {
-                int tableNumber = restaurantMonitor.findAvailableTable();
-                if (tableNumber != -1) {
-                    Customer customer = waitingCustomers.poll();
-                    if (customer != null) {
-                        restaurantMonitor.occupyTable(tableNumber);
-                        customer.assignTable(tableNumber);
-                    }
-                } else {
-                    break;
-                }
+        monitor.lock();
+        try {
+            while (waitingCustomers.isEmpty()) {
+                customerWaiting.await();
             }
+        } finally {
+            monitor.unlock();
+        }
+
+        int tableNumber = restaurantMonitor.acquire();
+
+        Customer customer;
+        monitor.lock();
+        try {
+            customer = waitingCustomers.poll();
+        } finally {
+            monitor.unlock();
+        }
+        // Todos los de la fila se cansaron mientras se esperaba la mesa
+        if (customer == null) {
+            restaurantMonitor.release(tableNumber);
+            return;
         }
+        customer.assignTable(tableNumber);
     }
-}
\ No newline at end of file
+}
@@ -7,7 +7,8 @@ public class Table extends Component {
     private final int number;
     private final Point2D position;
     private boolean isOccupied;
-    private Customer currentCustomer;
+    // Lo escribe el hilo del cliente y lo lee el del mesero al entregar
+    private volatile Customer currentCustomer;
 
     public Table(int number, Point2D position) {
         this.number = number;
@@ -0,0 +1,41 @@
+package com.restaurant.domain.entities;
+
+import com.restaurant.config.TableLayout;
+import javafx.geometry.Point2D;
+
+// Acceso directo por número de mesa a su componente y a su asiento. Las mesas se registran al
+// iniciar el juego, antes de que arranquen los agentes que las consultan.
+public class TableRegistry {
+    private final TableLayout layout;
+    private final Table[] tables;
+    private final Point2D[] seatPositions;
+
+    public TableRegistry(int totalTables, TableLayout layout) {
+        this.layout = layout;
+        this.tables = new Table[totalTables];
+        this.seatPositions = new Point2D[totalTables];
+        for (int i = 0; i < totalTables; i++) {
+            seatPositions[i] = new Point2D(layout.seatX(i), layout.seatY(i));
+        }
+    }
+
+    public void register(Table table) {
+        tables[table.getNumber()] = table;
+    }
+
+    public Table getTable(int tableNumber) {
+        return tables[tableNumber];
+    }
+
+    public Point2D getTablePosition(int tableNumber) {
+        return new Point2D(layout.tableX(tableNumber), layout.tableY(tableNumber));
+    }
+
+    public Point2D getSeatPosition(int tableNumber) {
+        return seatPositions[tableNumber];
+    }
+
+    public int size() {
+        return tables.length;
+    }
+}
@@ -1,32 +1,50 @@
 package com.restaurant.domain.entities;
 
-import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.component.Component;
 import com.restaurant.domain.models.Order;
 import com.restaurant.domain.monitors.OrderQueueMonitor;
 import com.restaurant.domain.monitors.CustomerQueueMonitor;
+import com.restaurant.domain.monitors.WaiterDispatcher;
+import com.restaurant.domain.monitors.WaiterWorkQueue;
+import com.restaurant.domain.movement.MovementSystem;
 import com.restaurant.config.GameConfig;
+import com.restaurant.metrics.LatencyPhase;
+import com.restaurant.metrics.LatencyRecorder;
+import com.restaurant.trace.TraceEventType;
+import com.restaurant.trace.TraceRecorder;
+import com.restaurant.utils.AgentExecutor;
+import com.restaurant.utils.SimulationClock;
 import javafx.geometry.Point2D;
+import java.util.SplittableRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.Queue;
 import java.util.LinkedList;
-import java.util.List;
 
-public class Waiter extends Component {
+public class Waiter extends Component implements WaiterDispatcher.Candidate {
     private static final AtomicInteger orderIdGenerator = new AtomicInteger(0);
-    private final Object taskLock = new Object();
-    private final Object stateLock = new Object();
+    private final ReentrantLock taskLock = new ReentrantLock();
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition stateChanged = stateLock.newCondition();
 
+    private final int id;
     private final OrderQueueMonitor orderQueueMonitor;
-    private final CustomerQueueMonitor customerQueueMonitor;
+    private final CustomerQueueMonitor<Customer> customerQueueMonitor;
+    private final WaiterDispatcher waiterDispatcher;
     private final Point2D restPosition;
-    private Point2D targetPosition;
+    private final MovementSystem movementSystem;
+    private final SimulationClock clock;
+    private volatile int movementAgent = -1;
+    private int currentMoveId;
     private boolean isMoving = false;
     private boolean isBusy = false;
     private WaiterState state = WaiterState.RESTING;
     private final Queue<Task> taskQueue = new LinkedList<>();
     private static final double SPEED = GameConfig.WAITER_SPEED;
-    private final List<Entity> tables;
+    private final TableRegistry tableRegistry;
+    private final AgentExecutor agentExecutor;
+    private final SplittableRandom random;
 
     public enum WaiterState {
         RESTING,
@@ -49,100 +67,180 @@ public class Waiter extends Component {
         }
     }
 
-    public Waiter(int id, OrderQueueMonitor orderQueueMonitor, CustomerQueueMonitor customerQueueMonitor,
-                  Point2D restPosition, List<Entity> tables) {
+    public Waiter(int id, OrderQueueMonitor orderQueueMonitor, CustomerQueueMonitor<Customer> customerQueueMonitor,
+                  WaiterDispatcher waiterDispatcher, Point2D restPosition, TableRegistry tableRegistry, AgentExecutor agentExecutor,
+                  SplittableRandom random, MovementSystem movementSystem,
+                  SimulationClock clock) {
+        this.id = id;
         this.orderQueueMonitor = orderQueueMonitor;
         this.customerQueueMonitor = customerQueueMonitor;
+        this.waiterDispatcher = waiterDispatcher;
         this.restPosition = restPosition;
-        this.tables = tables;
+        this.tableRegistry = tableRegistry;
+        this.agentExecutor = agentExecutor;
+        this.random = random;
+        this.movementSystem = movementSystem;
+        this.clock = clock;
     }
 
     @Override
     public void onAdded() {
-        entity.setPosition(restPosition);
+        movementAgent = movementSystem.register(entity, restPosition.getX(), restPosition.getY(), SPEED,
+                this::onArrival);
         startWaiterBehavior();
     }
 
     @Override
-    public void onUpdate(double tpf) {
-        if (isMoving && targetPosition != null) {
-            Point2D currentPos = entity.getPosition();
-            Point2D direction = targetPosition.subtract(currentPos);
-
-            double distance = direction.magnitude();
-            if (distance < SPEED * tpf) {
-                entity.setPosition(targetPosition);
-                onTargetReached();
-            } else {
-                direction = direction.normalize().multiply(SPEED * tpf);
-                entity.translate(direction.getX(), direction.getY());
-            }
+    public void onRemoved() {
+        movementSystem.unregister(movementAgent);
+    }
+
+    public int getMovementAgent() {
+        return movementAgent;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public WaiterState getState() {
+        taskLock.lock();
+        try {
+            return state;
+        } finally {
+            taskLock.unlock();
         }
     }
 
+    public boolean isBusy() {
+        stateLock.lock();
+        try {
+            return isBusy;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Override
+    public double getCurrentX() {
+        int agent = movementAgent;
+        return agent == -1 ? restPosition.getX() : movementSystem.getX(agent);
+    }
+
+    @Override
+    public double getCurrentY() {
+        int agent = movementAgent;
+        return agent == -1 ? restPosition.getY() : movementSystem.getY(agent);
+    }
+
     private void startWaiterBehavior() {
-        new Thread(() -> {
+        agentExecutor.execute(() -> {
             while (!Thread.currentThread().isInterrupted()) {
                 try {
-                    synchronized (stateLock) {
-                        if (!isBusy) {
-                            if (!checkAndDeliverReadyOrders()) {
-                                if (customerQueueMonitor.hasWaitingCustomers()) {
-                                    CustomerQueueMonitor.CustomerRequest request =
-                                            customerQueueMonitor.getNextCustomer();
-                                    if (request != null) {
-                                        serveCustomer(request.customer, request.tableNumber);
-                                    }
-                                } else if (state != WaiterState.RESTING && !isMoving && taskQueue.isEmpty()) {
-                                    moveToRest();
-                                }
-                            }
-                        }
-                        stateLock.wait(500);
+                    awaitIdle();
+                    if (!waiterDispatcher.hasPendingWork()) {
+                        moveToRest();
                     }
+                    handleWork(waiterDispatcher.awaitAssignment(this));
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
                 }
             }
-        }).start();
+        });
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        stateLock.lock();
+        try {
+            while (isBusy) {
+                stateChanged.await();
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void handleWork(WaiterWorkQueue.Work work) {
+        switch (work.type) {
+            case DELIVER_ORDER -> {
+                Order readyOrder = orderQueueMonitor.takeAnyReadyOrder();
+                if (readyOrder != null) {
+                    deliverOrder(readyOrder);
+                }
+            }
+            case TAKE_ORDER -> {
+                CustomerQueueMonitor.CustomerRequest<Customer> request =
+                        customerQueueMonitor.pollCustomerForTable(work.tableNumber);
+                if (request != null) {
+                    serveCustomer(request.customer, request.tableNumber);
+                }
+            }
+        }
     }
 
     private void serveCustomer(Customer customer, int tableNumber) {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             isBusy = true;
             addTask(new Task(
                     WaiterState.MOVING_TO_TABLE,
-                    calculateTablePosition(tableNumber),
-                    () -> takeOrderFromCustomer(tableNumber)
+                    tableRegistry.getSeatPosition(tableNumber),
+                    () -> takeOrderFromCustomer(customer, tableNumber)
             ));
+        } finally {
+            stateLock.unlock();
         }
     }
 
     private void addTask(Task task) {
-        synchronized (taskLock) {
+        taskLock.lock();
+        try {
+            // Si regresaba a descansar, el nuevo trabajo sale desde donde está ahora
+            if (state == WaiterState.RETURNING_TO_REST) {
+                taskQueue.clear();
+                movementSystem.stop(movementAgent);
+                isMoving = false;
+            }
             taskQueue.add(task);
             if (!isMoving) {
                 startNextTask();
             }
+        } finally {
+            taskLock.unlock();
         }
     }
 
     private void startNextTask() {
-        synchronized (taskLock) {
+        taskLock.lock();
+        try {
             if (!taskQueue.isEmpty() && !isMoving) {
                 Task task = taskQueue.peek();
                 if (task != null) {
                     state = task.targetState;
-                    targetPosition = task.targetPos;
+                    currentMoveId = movementSystem.moveTo(movementAgent, task.targetPos.getX(), task.targetPos.getY());
                     isMoving = true;
                 }
             }
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    private void onArrival(int moveId) {
+        taskLock.lock();
+        try {
+            if (moveId == currentMoveId) {
+                onTargetReached();
+            }
+        } finally {
+            taskLock.unlock();
         }
     }
 
     private void onTargetReached() {
-        synchronized (taskLock) {
+        taskLock.lock();
+        try {
             isMoving = false;
             Task currentTask = taskQueue.poll();
             if (currentTask != null) {
@@ -151,11 +249,15 @@ public class Waiter extends Component {
             if (!taskQueue.isEmpty()) {
                 startNextTask();
             }
+        } finally {
+            taskLock.unlock();
         }
     }
 
-    private void takeOrderFromCustomer(int tableNumber) {
-        Order order = new Order(orderIdGenerator.incrementAndGet(), tableNumber);
+    private void takeOrderFromCustomer(Customer customer, int tableNumber) {
+        customer.orderTaken();
+        Order order = new Order(orderIdGenerator.incrementAndGet(), tableNumber, random);
+        TraceRecorder.global().record(TraceEventType.ORDER_CREATED, order.getId(), tableNumber);
 
         Point2D kitchenPos = new Point2D(GameConfig.KITCHEN_X - 50, GameConfig.KITCHEN_Y);
         addTask(new Task(
@@ -169,7 +271,8 @@ public class Waiter extends Component {
     }
 
     private void deliverOrder(Order order) {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             isBusy = true;
             int tableNumber = order.getTableNumber();
 
@@ -179,68 +282,54 @@ public class Waiter extends Component {
                     kitchenPos,
                     () -> addTask(new Task(
                             WaiterState.DELIVERING_ORDER,
-                            calculateTablePosition(tableNumber),
+                            tableRegistry.getSeatPosition(tableNumber),
                             () -> {
-                                for (Entity tableEntity : tables) {
-                                    Table table = tableEntity.getComponent(Table.class);
-                                    if (table != null && table.getNumber() == tableNumber) {
-                                        Customer customer = table.getCurrentCustomer();
-                                        if (customer != null) {
-                                            customer.startEating();
-                                        }
-                                        break;
-                                    }
+                                LatencyRecorder.global().record(LatencyPhase.DELIVERY,
+                                        clock.now() - order.getReadyAt());
+                                TraceRecorder.global().record(TraceEventType.ORDER_DELIVERED, order.getId(), tableNumber);
+                                orderQueueMonitor.markDelivered();
+                                Customer customer = tableRegistry.getTable(tableNumber).getCurrentCustomer();
+                                if (customer != null) {
+                                    customer.startEating();
                                 }
                                 resetState();
                             }
                     ))
             ));
+        } finally {
+            stateLock.unlock();
         }
     }
 
-    private boolean checkAndDeliverReadyOrders() {
-        try {
-            synchronized (stateLock) {
-                if (!isBusy) {
-                    for (int i = 0; i < GameConfig.TOTAL_TABLES; i++) {
-                        Order readyOrder = orderQueueMonitor.checkReadyOrder(i);
-                        if (readyOrder != null) {
-                            deliverOrder(readyOrder);
-                            return true;
-                        }
-                    }
-                }
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        return false;
-    }
-
     private void moveToRest() {
-        synchronized (taskLock) {
-            if (!isMoving && taskQueue.isEmpty()) {
+        taskLock.lock();
+        try {
+            if (state != WaiterState.RESTING && !isMoving && taskQueue.isEmpty()) {
                 addTask(new Task(
                         WaiterState.RETURNING_TO_REST,
                         restPosition,
                         () -> state = WaiterState.RESTING
                 ));
             }
+        } finally {
+            taskLock.unlock();
         }
     }
 
-    private Point2D calculateTablePosition(int tableNumber) {
-        int row = tableNumber / 5;
-        int col = tableNumber % 5;
-        return new Point2D(
-                300 + col * (GameConfig.SPRITE_SIZE * 2),
-                100 + row * (GameConfig.SPRITE_SIZE * 2)
-        );
+    public static double distanceSquaredToWork(WaiterWorkQueue.Work work, double fromX, double fromY) {
+        boolean delivery = work.type == WaiterWorkQueue.WorkType.DELIVER_ORDER;
+        double dx = (delivery ? GameConfig.KITCHEN_X - 50 : GameConfig.TABLE_LAYOUT.seatX(work.tableNumber)) - fromX;
+        double dy = (delivery ? GameConfig.KITCHEN_Y : GameConfig.TABLE_LAYOUT.seatY(work.tableNumber)) - fromY;
+        return dx * dx + dy * dy;
     }
 
     private void resetState() {
-        synchronized (stateLock) {
+        stateLock.lock();
+        try {
             isBusy = false;
+            stateChanged.signalAll();
+        } finally {
+            stateLock.unlock();
         }
     }
 }
\ No newline at end of file
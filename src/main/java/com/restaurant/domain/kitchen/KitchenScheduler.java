@@ -0,0 +1,158 @@
+package com.restaurant.domain.kitchen;
+
+import com.restaurant.domain.models.Order;
+import java.util.PriorityQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Cada cocinero tiene su propia cola ordenada por la política; las órdenes nuevas van a la cola más
+// corta y un cocinero sin trabajo roba de la más larga. La política ordena sólo dentro de cada cola:
+// con varios cocineros, SHORTEST_PREP_FIRST y AGING no garantizan el orden global entre colas.
+public class KitchenScheduler {
+    private final OrderSchedulingPolicy policy;
+    private final LongSupplier clock;
+    private final LocalQueue[] localQueues;
+    // Un permiso por orden encolada: quien lo obtiene tiene garantizada una orden en alguna cola
+    private final Semaphore pendingOrders = new Semaphore(0);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong stolenOrders = new AtomicLong();
+
+    private static class Ticket implements Comparable<Ticket> {
+        final Order order;
+        final double priority;
+        final long sequence;
+
+        Ticket(Order order, double priority, long sequence) {
+            this.order = order;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Ticket other) {
+            int byPriority = Double.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private static class LocalQueue {
+        final PriorityQueue<Ticket> tickets = new PriorityQueue<>();
+        final ReentrantLock lock = new ReentrantLock();
+        volatile int size;
+
+        void push(Ticket ticket) {
+            lock.lock();
+            try {
+                tickets.add(ticket);
+                size = tickets.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Ticket poll() {
+            if (size == 0) {
+                return null;
+            }
+            lock.lock();
+            try {
+                Ticket ticket = tickets.poll();
+                size = tickets.size();
+                return ticket;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public KitchenScheduler(int cooks, OrderSchedulingPolicy policy, LongSupplier clock) {
+        if (cooks <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos un cocinero");
+        }
+        this.policy = policy;
+        this.clock = clock;
+        this.localQueues = new LocalQueue[cooks];
+        for (int i = 0; i < cooks; i++) {
+            localQueues[i] = new LocalQueue();
+        }
+    }
+
+    public void submit(Order order) {
+        Ticket ticket = new Ticket(order, policy.priority(order, clock.getAsLong()), sequence.getAndIncrement());
+        leastLoadedQueue().push(ticket);
+        pendingOrders.release();
+    }
+
+    public Order take(int cookId) throws InterruptedException {
+        pendingOrders.acquire();
+        return claim(cookId);
+    }
+
+    public Order poll(int cookId) {
+        return pendingOrders.tryAcquire() ? claim(cookId) : null;
+    }
+
+    public int getPendingCount() {
+        return pendingOrders.availablePermits();
+    }
+
+    public long getStolenOrders() {
+        return stolenOrders.get();
+    }
+
+    public LongSupplier getClock() {
+        return clock;
+    }
+
+    public OrderSchedulingPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getCooks() {
+        return localQueues.length;
+    }
+
+    private Order claim(int cookId) {
+        while (true) {
+            Ticket ticket = localQueues[cookId].poll();
+            if (ticket == null) {
+                ticket = steal(cookId);
+            }
+            if (ticket != null) {
+                return ticket.order;
+            }
+            // Otro cocinero tomó la orden que vimos; el permiso garantiza que queda otra
+            Thread.onSpinWait();
+        }
+    }
+
+    private Ticket steal(int thiefId) {
+        LocalQueue victim = null;
+        for (int i = 1; i < localQueues.length; i++) {
+            LocalQueue candidate = localQueues[(thiefId + i) % localQueues.length];
+            if (candidate.size > 0 && (victim == null || candidate.size > victim.size)) {
+                victim = candidate;
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+        Ticket ticket = victim.poll();
+        if (ticket != null) {
+            stolenOrders.incrementAndGet();
+        }
+        return ticket;
+    }
+
+    private LocalQueue leastLoadedQueue() {
+        LocalQueue best = localQueues[0];
+        for (int i = 1; i < localQueues.length && best.size > 0; i++) {
+            if (localQueues[i].size < best.size) {
+                best = localQueues[i];
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,45 @@
+package com.restaurant.domain.kitchen;
+
+import com.restaurant.domain.models.Order;
+import java.util.Locale;
+
+public enum OrderSchedulingPolicy {
+    FIFO {
+        @Override
+        double priority(Order order, long enqueuedAt) {
+            return enqueuedAt;
+        }
+    },
+    SHORTEST_PREP_FIRST {
+        @Override
+        double priority(Order order, long enqueuedAt) {
+            return order.getPreparationTime();
+        }
+    },
+    // prep - AGING_RATE * (ahora - llegada) ordena igual que prep + AGING_RATE * llegada,
+    // así la prioridad se calcula una sola vez al encolar y no hace falta reordenar.
+    AGING {
+        @Override
+        double priority(Order order, long enqueuedAt) {
+            return order.getPreparationTime() + AGING_RATE * enqueuedAt;
+        }
+    };
+
+    public static final String PROPERTY = "restaurant.kitchen.policy";
+
+    // Cada milisegundo de espera equivale a medio milisegundo menos de preparación
+    static final double AGING_RATE = 0.5;
+
+    // -Drestaurant.kitchen.policy=<FIFO|SHORTEST_PREP_FIRST|AGING>; sin la propiedad se cocina por llegada
+    public static OrderSchedulingPolicy fromSystemProperties() {
+        String value = System.getProperty(PROPERTY, FIFO.name());
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Política de cocina desconocida: " + value, e);
+        }
+    }
+
+    // Menor valor = se cocina antes
+    abstract double priority(Order order, long enqueuedAt);
+}
@@ -1,62 +1,86 @@
 package com.restaurant.domain.models;
 
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.concurrent.atomic.LongAdder;
 
 public class CustomerStats {
-    private final SimpleIntegerProperty customersWaitingTable;
-    private final SimpleIntegerProperty customersWaitingFood;
-    private final SimpleIntegerProperty customersEating;
-    private final SimpleIntegerProperty customersAtTables;
+    private final LongAdder customersWaitingTable;
+    private final LongAdder customersWaitingFood;
+    private final LongAdder customersEating;
+    private final LongAdder customersAtTables;
+    // Clientes perdidos: se fueron al ver la fila o se cansaron de esperar mesa
+    private final LongAdder customersBalked;
+    private final LongAdder customersReneged;
 
     public CustomerStats() {
-        customersWaitingTable = new SimpleIntegerProperty(0);
-        customersWaitingFood = new SimpleIntegerProperty(0);
-        customersEating = new SimpleIntegerProperty(0);
-        customersAtTables = new SimpleIntegerProperty(0);
+        customersWaitingTable = new LongAdder();
+        customersWaitingFood = new LongAdder();
+        customersEating = new LongAdder();
+        customersAtTables = new LongAdder();
+        customersBalked = new LongAdder();
+        customersReneged = new LongAdder();
     }
 
     public void incrementWaitingForTable() {
-        customersWaitingTable.set(customersWaitingTable.get() + 1);
+        customersWaitingTable.increment();
     }
 
     public void decrementWaitingForTable() {
-        int currentValue = customersWaitingTable.get();
-        if (currentValue > 0) {
-            customersWaitingTable.set(currentValue - 1);
-            customersAtTables.set(customersAtTables.get() + 1);
-        }
+        customersWaitingTable.decrement();
+        customersAtTables.increment();
+    }
+
+    public void incrementBalked() {
+        customersBalked.increment();
+    }
+
+    // Deja la fila sin haber conseguido mesa
+    public void abandonWaitingForTable() {
+        customersWaitingTable.decrement();
+        customersReneged.increment();
     }
 
     public void incrementWaitingForFood() {
-        customersWaitingFood.set(customersWaitingFood.get() + 1);
+        customersWaitingFood.increment();
     }
 
     public void decrementWaitingForFood() {
-        customersWaitingFood.set(customersWaitingFood.get() - 1);
+        customersWaitingFood.decrement();
     }
 
     public void incrementEating() {
-        customersEating.set(customersEating.get() + 1);
+        customersEating.increment();
     }
 
     public void decrementEating() {
-        customersEating.set(customersEating.get() - 1);
-        customersAtTables.set(customersAtTables.get() - 1);
+        customersEating.decrement();
+        customersAtTables.decrement();
+    }
+
+    public long getCustomersWaitingTable() {
+        return customersWaitingTable.sum();
+    }
+
+    public long getCustomersWaitingFood() {
+        return customersWaitingFood.sum();
+    }
+
+    public long getCustomersEating() {
+        return customersEating.sum();
     }
 
-    public SimpleIntegerProperty customersWaitingTableProperty() {
-        return customersWaitingTable;
+    public long getCustomersAtTables() {
+        return customersAtTables.sum();
     }
 
-    public SimpleIntegerProperty customersWaitingFoodProperty() {
-        return customersWaitingFood;
+    public long getCustomersBalked() {
+        return customersBalked.sum();
     }
 
-    public SimpleIntegerProperty customersEatingProperty() {
-        return customersEating;
+    public long getCustomersReneged() {
+        return customersReneged.sum();
     }
 
-    public SimpleIntegerProperty customersAtTablesProperty() {
-        return customersAtTables;
+    public long getCustomersLost() {
+        return getCustomersBalked() + getCustomersReneged();
     }
-}
\ No newline at end of file
+}
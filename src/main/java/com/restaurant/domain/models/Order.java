@@ -1,17 +1,30 @@
 package com.restaurant.domain.models;
 
+import java.util.SplittableRandom;
+
 public class Order {
+    public static final long MIN_PREPARATION_TIME = 3000;
+    public static final long MAX_PREPARATION_TIME = 8000;
+
     private final int id;
     private final int tableNumber;
     private final long preparationTime;
     private OrderStatus status;
+    // Marcas de tiempo del reloj de la cocina, en milisegundos
+    private long submittedAt;
+    private long startedAt;
+    private long readyAt;
 
 
-    public Order(int id, int tableNumber) {
+    public Order(int id, int tableNumber, long preparationTime) {
         this.id = id;
         this.tableNumber = tableNumber;
         this.status = OrderStatus.PENDING;
-        this.preparationTime = (long) (Math.random() * 5000 + 3000);
+        this.preparationTime = preparationTime;
+    }
+
+    public Order(int id, int tableNumber, SplittableRandom random) {
+        this(id, tableNumber, random.nextLong(MIN_PREPARATION_TIME, MAX_PREPARATION_TIME));
     }
 
     public int getId() { return id; }
@@ -19,4 +32,10 @@ public class Order {
     public OrderStatus getStatus() { return status; }
     public void setStatus(OrderStatus status) { this.status = status; }
     public long getPreparationTime() { return preparationTime; }
+    public long getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(long submittedAt) { this.submittedAt = submittedAt; }
+    public long getStartedAt() { return startedAt; }
+    public void setStartedAt(long startedAt) { this.startedAt = startedAt; }
+    public long getReadyAt() { return readyAt; }
+    public void setReadyAt(long readyAt) { this.readyAt = readyAt; }
 }
\ No newline at end of file
@@ -1,48 +1,107 @@
 package com.restaurant.domain.monitors;
 
-import com.restaurant.domain.entities.Customer;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.function.LongSupplier;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
-public class CustomerQueueMonitor {
-    private final Queue<CustomerRequest> waitingCustomers;
-    private final Object monitor = new Object();
+public class CustomerQueueMonitor<C> {
+    private final Queue<CustomerRequest<C>> waitingCustomers;
+    private final WaiterWorkQueue waiterWorkQueue;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition customerWaiting = lock.newCondition();
 
-    public static class CustomerRequest {
-        public final Customer customer;
+    public static class CustomerRequest<C> {
+        public final C customer;
         public final int tableNumber;
         public final long arrivalTime;
 
-        public CustomerRequest(Customer customer, int tableNumber) {
+        public CustomerRequest(C customer, int tableNumber, long arrivalTime) {
             this.customer = customer;
             this.tableNumber = tableNumber;
-            this.arrivalTime = System.currentTimeMillis();
+            this.arrivalTime = arrivalTime;
         }
     }
 
-    public CustomerQueueMonitor() {
+    public CustomerQueueMonitor(WaiterWorkQueue waiterWorkQueue) {
+        this(waiterWorkQueue, System::currentTimeMillis);
+    }
+
+    public CustomerQueueMonitor(WaiterWorkQueue waiterWorkQueue, LongSupplier clock) {
+        this.waiterWorkQueue = waiterWorkQueue;
+        this.clock = clock;
         waitingCustomers = new LinkedList<>();
     }
 
-    public void addCustomer(Customer customer, int tableNumber) {
-        synchronized (monitor) {
-            waitingCustomers.add(new CustomerRequest(customer, tableNumber));
-            monitor.notify();
+    public void addCustomer(C customer, int tableNumber) {
+        lock.lock();
+        try {
+            waitingCustomers.add(new CustomerRequest<>(customer, tableNumber, clock.getAsLong()));
+            customerWaiting.signal();
+        } finally {
+            lock.unlock();
         }
+        waiterWorkQueue.submit(WaiterWorkQueue.WorkType.TAKE_ORDER, tableNumber);
     }
 
-    public CustomerRequest getNextCustomer() throws InterruptedException {
-        synchronized (monitor) {
+    public CustomerRequest<C> getNextCustomer() throws InterruptedException {
+        lock.lock();
+        try {
             while (waitingCustomers.isEmpty()) {
-                monitor.wait();
+                customerWaiting.await();
             }
             return waitingCustomers.poll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CustomerRequest<C> pollNextCustomer() {
+        lock.lock();
+        try {
+            return waitingCustomers.poll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaitingCount() {
+        lock.lock();
+        try {
+            return waitingCustomers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Reclama la solicitud de la mesa que el despachador asignó, no la que esté al frente: si dos
+    // meseros despiertan juntos, cada uno va a la mesa para la que fue elegido
+    public CustomerRequest<C> pollCustomerForTable(int tableNumber) {
+        lock.lock();
+        try {
+            Iterator<CustomerRequest<C>> requests = waitingCustomers.iterator();
+            while (requests.hasNext()) {
+                CustomerRequest<C> request = requests.next();
+                if (request.tableNumber == tableNumber) {
+                    requests.remove();
+                    return request;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
         }
     }
 
     public boolean hasWaitingCustomers() {
-        synchronized (monitor) {
+        lock.lock();
+        try {
             return !waitingCustomers.isEmpty();
+        } finally {
+            lock.unlock();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,60 +1,195 @@
 package com.restaurant.domain.monitors;
 
+import com.restaurant.domain.kitchen.KitchenScheduler;
 import com.restaurant.domain.models.Order;
 import com.restaurant.domain.models.OrderStatus;
-import java.util.LinkedList;
-import java.util.Queue;
+import com.restaurant.metrics.LatencyPhase;
+import com.restaurant.metrics.LatencyRecorder;
+import com.restaurant.trace.TraceEventType;
+import com.restaurant.trace.TraceRecorder;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class OrderQueueMonitor {
-    private final Queue<Order> pendingOrders;
-    private final Queue<Order> inProcessOrders;
-    private final Queue<Order> readyOrders;
-    private final Object monitor = new Object();
+    private static final int MIN_STALE_BEFORE_COMPACT = 32;
 
-    public OrderQueueMonitor() {
-        pendingOrders = new LinkedList<>();
-        inProcessOrders = new LinkedList<>();
-        readyOrders = new LinkedList<>();
+    private final KitchenScheduler kitchenScheduler;
+    private final LongSupplier clock;
+    private final LatencyRecorder latencyRecorder;
+    private final TraceRecorder traceRecorder;
+    private final Set<Order> inProcessOrders;
+    // Índice por mesa para entregas dirigidas y cola global en orden de llegada para "cualquier orden lista".
+    // Las entradas de la cola global ya entregadas por mesa se descartan de forma perezosa.
+    private final Map<Integer, ArrayDeque<Order>> readyOrdersByTable;
+    private final ArrayDeque<Order> readyOrders;
+    private int readyOrderCount;
+    private int staleReadyEntries;
+    private long completedOrders;
+    private long deliveredOrders;
+    private final WaiterWorkQueue waiterWorkQueue;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public OrderQueueMonitor(WaiterWorkQueue waiterWorkQueue, KitchenScheduler kitchenScheduler,
+                             LatencyRecorder latencyRecorder, TraceRecorder traceRecorder) {
+        this.waiterWorkQueue = waiterWorkQueue;
+        this.kitchenScheduler = kitchenScheduler;
+        this.clock = kitchenScheduler.getClock();
+        this.latencyRecorder = latencyRecorder;
+        this.traceRecorder = traceRecorder;
+        inProcessOrders = new HashSet<>();
+        readyOrdersByTable = new HashMap<>();
+        readyOrders = new ArrayDeque<>();
     }
 
     public void addOrder(Order order) {
-        synchronized (monitor) {
-            pendingOrders.add(order);
-            monitor.notify();
-        }
+        order.setSubmittedAt(clock.getAsLong());
+        kitchenScheduler.submit(order);
     }
 
-    public Order getNextOrder() throws InterruptedException {
-        synchronized (monitor) {
-            while (pendingOrders.isEmpty()) {
-                monitor.wait();
-            }
-            Order order = pendingOrders.poll();
+    public Order getNextOrder(int cookId) throws InterruptedException {
+        return startOrder(kitchenScheduler.take(cookId));
+    }
+
+    public Order pollNextOrder(int cookId) {
+        Order order = kitchenScheduler.poll(cookId);
+        return order != null ? startOrder(order) : null;
+    }
+
+    private Order startOrder(Order order) {
+        lock.lock();
+        try {
             order.setStatus(OrderStatus.IN_PROCESS);
+            order.setStartedAt(clock.getAsLong());
             inProcessOrders.add(order);
-            return order;
+        } finally {
+            lock.unlock();
         }
+        latencyRecorder.record(LatencyPhase.KITCHEN_QUEUE, order.getStartedAt() - order.getSubmittedAt());
+        return order;
     }
 
     public void markOrderAsReady(Order order) {
-        synchronized (monitor) {
+        lock.lock();
+        try {
             order.setStatus(OrderStatus.READY);
+            order.setReadyAt(clock.getAsLong());
             inProcessOrders.remove(order);
+            readyOrdersByTable.computeIfAbsent(order.getTableNumber(), table -> new ArrayDeque<>()).add(order);
             readyOrders.add(order);
-            monitor.notifyAll();
+            readyOrderCount++;
+            completedOrders++;
+        } finally {
+            lock.unlock();
+        }
+        latencyRecorder.record(LatencyPhase.PREPARATION, order.getReadyAt() - order.getStartedAt());
+        traceRecorder.record(order.getReadyAt(), TraceEventType.ORDER_READY, order.getId(), order.getTableNumber(),
+                order.getPreparationTime());
+        waiterWorkQueue.submit(WaiterWorkQueue.WorkType.DELIVER_ORDER, order.getTableNumber());
+    }
+
+    // Lo llama el mesero al dejar la orden en la mesa; sacarla de la cocina todavía no es entregarla
+    public void markDelivered() {
+        lock.lock();
+        try {
+            deliveredOrders++;
+        } finally {
+            lock.unlock();
         }
     }
 
-    public Order checkReadyOrder(int tableNumber) throws InterruptedException {
-        synchronized (monitor) {
-            for (Order order : readyOrders) {
-                if (order.getTableNumber() == tableNumber) {
-                    readyOrders.remove(order);
+    public Order checkReadyOrder(int tableNumber) {
+        lock.lock();
+        try {
+            ArrayDeque<Order> tableOrders = readyOrdersByTable.get(tableNumber);
+            if (tableOrders == null) {
+                return null;
+            }
+            Order order = removeFromTable(tableOrders, tableNumber);
+            order.setStatus(OrderStatus.DELIVERED);
+            staleReadyEntries++;
+            compactIfNeeded();
+            return order;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Order takeAnyReadyOrder() {
+        lock.lock();
+        try {
+            Order order;
+            while ((order = readyOrders.poll()) != null) {
+                if (order.getStatus() == OrderStatus.READY) {
+                    removeFromTable(readyOrdersByTable.get(order.getTableNumber()), order.getTableNumber());
                     order.setStatus(OrderStatus.DELIVERED);
                     return order;
                 }
+                staleReadyEntries--;
             }
             return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        return kitchenScheduler.getPendingCount();
+    }
+
+    public int getInProcessCount() {
+        lock.lock();
+        try {
+            return inProcessOrders.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getReadyCount() {
+        lock.lock();
+        try {
+            return readyOrderCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCompletedCount() {
+        lock.lock();
+        try {
+            return completedOrders;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDeliveredCount() {
+        lock.lock();
+        try {
+            return deliveredOrders;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Order removeFromTable(ArrayDeque<Order> tableOrders, int tableNumber) {
+        Order order = tableOrders.poll();
+        if (tableOrders.isEmpty()) {
+            readyOrdersByTable.remove(tableNumber);
+        }
+        readyOrderCount--;
+        return order;
+    }
+
+    private void compactIfNeeded() {
+        if (staleReadyEntries > MIN_STALE_BEFORE_COMPACT && staleReadyEntries > readyOrderCount) {
+            readyOrders.removeIf(order -> order.getStatus() != OrderStatus.READY);
+            staleReadyEntries = 0;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,43 +1,153 @@
 package com.restaurant.domain.monitors;
 
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 public class RestaurantMonitor {
-    public static final int TOTAL_TABLES = 10;
-    private final boolean[] tables;
-    private final Object monitor = new Object();
+    private final boolean[] occupied;
+    private final int[] freeTables;
+    private int freeCount;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<TableRequest> waitingRequests = new ArrayDeque<>();
+
+    // Cada solicitud bloqueada tiene su propia condición: al liberar una mesa se le entrega
+    // directamente al primero de la fila y sólo ese hilo despierta.
+    private static class TableRequest {
+        final Condition granted;
+        int tableNumber = -1;
+
+        TableRequest(Condition granted) {
+            this.granted = granted;
+        }
+    }
 
-    public RestaurantMonitor() {
-        tables = new boolean[TOTAL_TABLES];
+    public RestaurantMonitor(int totalTables) {
+        if (totalTables <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos una mesa");
+        }
+        occupied = new boolean[totalTables];
+        freeTables = new int[totalTables];
+        for (int i = 0; i < totalTables; i++) {
+            freeTables[i] = totalTables - 1 - i;
+        }
+        freeCount = totalTables;
     }
 
-    public int findAvailableTable() {
-        synchronized (monitor) {
-            for (int i = 0; i < tables.length; i++) {
-                if (!tables[i]) {
-                    return i;
+    public int tryAcquire() {
+        lock.lock();
+        try {
+            return waitingRequests.isEmpty() ? takeFreeTable() : -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            int tableNumber = tryAcquire();
+            if (tableNumber != -1) {
+                return tableNumber;
+            }
+            TableRequest request = new TableRequest(lock.newCondition());
+            waitingRequests.add(request);
+            try {
+                while (request.tableNumber == -1) {
+                    request.granted.await();
+                }
+            } catch (InterruptedException e) {
+                if (request.tableNumber == -1) {
+                    waitingRequests.remove(request);
+                    throw e;
                 }
+                Thread.currentThread().interrupt();
             }
-            return -1;
+            return request.tableNumber;
+        } finally {
+            lock.unlock();
         }
     }
 
-    public void occupyTable(int tableNumber) {
-        synchronized (monitor) {
-            tables[tableNumber] = true;
+    public int tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            int tableNumber = tryAcquire();
+            if (tableNumber != -1) {
+                return tableNumber;
+            }
+            TableRequest request = new TableRequest(lock.newCondition());
+            waitingRequests.add(request);
+            long remaining = unit.toNanos(timeout);
+            try {
+                while (request.tableNumber == -1) {
+                    if (remaining <= 0) {
+                        waitingRequests.remove(request);
+                        return -1;
+                    }
+                    remaining = request.granted.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (request.tableNumber == -1) {
+                    waitingRequests.remove(request);
+                    throw e;
+                }
+                Thread.currentThread().interrupt();
+            }
+            return request.tableNumber;
+        } finally {
+            lock.unlock();
         }
     }
 
-    public void releaseTable(int tableNumber) {
-        synchronized (monitor) {
-            tables[tableNumber] = false;
-            monitor.notifyAll();
+    public void release(int tableNumber) {
+        lock.lock();
+        try {
+            if (!occupied[tableNumber]) {
+                throw new IllegalStateException("La mesa " + tableNumber + " no está ocupada");
+            }
+            TableRequest next = waitingRequests.poll();
+            if (next != null) {
+                next.tableNumber = tableNumber;
+                next.granted.signal();
+            } else {
+                occupied[tableNumber] = false;
+                freeTables[freeCount++] = tableNumber;
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
-    public void waitForAvailableTable() throws InterruptedException {
-        synchronized (monitor) {
-            while (findAvailableTable() == -1) {
-                monitor.wait();
-            }
+    public int getTotalTables() {
+        return occupied.length;
+    }
+
+    public int getOccupiedTables() {
+        lock.lock();
+        try {
+            return occupied.length - freeCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaitingRequests() {
+        lock.lock();
+        try {
+            return waitingRequests.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int takeFreeTable() {
+        if (freeCount == 0) {
+            return -1;
         }
+        int tableNumber = freeTables[--freeCount];
+        occupied[tableNumber] = true;
+        return tableNumber;
     }
-}
\ No newline at end of file
+}
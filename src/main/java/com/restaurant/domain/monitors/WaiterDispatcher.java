@@ -0,0 +1,120 @@
+package com.restaurant.domain.monitors;
+
+import com.restaurant.utils.AgentExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Reparte el trabajo de WaiterWorkQueue al mesero libre más cercano al destino de cada tarea.
+public class WaiterDispatcher {
+    private final WaiterWorkQueue waiterWorkQueue;
+    private final WorkLocator workLocator;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition waiterIdle = lock.newCondition();
+    private final List<IdleWaiter> idleWaiters = new ArrayList<>();
+
+    public interface Candidate {
+        double getCurrentX();
+        double getCurrentY();
+    }
+
+    public interface WorkLocator {
+        double distanceSquared(WaiterWorkQueue.Work work, double fromX, double fromY);
+    }
+
+    private static class IdleWaiter implements Candidate {
+        final Candidate candidate;
+        final Condition assigned;
+        WaiterWorkQueue.Work work;
+
+        IdleWaiter(Candidate candidate, Condition assigned) {
+            this.candidate = candidate;
+            this.assigned = assigned;
+        }
+
+        @Override
+        public double getCurrentX() {
+            return candidate.getCurrentX();
+        }
+
+        @Override
+        public double getCurrentY() {
+            return candidate.getCurrentY();
+        }
+    }
+
+    public WaiterDispatcher(WaiterWorkQueue waiterWorkQueue, WorkLocator workLocator) {
+        this.waiterWorkQueue = waiterWorkQueue;
+        this.workLocator = workLocator;
+    }
+
+    public void start(AgentExecutor agentExecutor) {
+        agentExecutor.execute(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    dispatch(waiterWorkQueue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        });
+    }
+
+    public boolean hasPendingWork() {
+        return waiterWorkQueue.size() > 0;
+    }
+
+    public WaiterWorkQueue.Work awaitAssignment(Candidate candidate) throws InterruptedException {
+        lock.lock();
+        try {
+            IdleWaiter idle = new IdleWaiter(candidate, lock.newCondition());
+            idleWaiters.add(idle);
+            waiterIdle.signal();
+            try {
+                while (idle.work == null) {
+                    idle.assigned.await();
+                }
+            } catch (InterruptedException e) {
+                if (idle.work == null) {
+                    idleWaiters.remove(idle);
+                    throw e;
+                }
+                Thread.currentThread().interrupt();
+            }
+            return idle.work;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch(WaiterWorkQueue.Work work) throws InterruptedException {
+        lock.lock();
+        try {
+            while (idleWaiters.isEmpty()) {
+                waiterIdle.await();
+            }
+            IdleWaiter chosen = idleWaiters.remove(selectNearest(idleWaiters, work, workLocator));
+            chosen.work = work;
+            chosen.assigned.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static int selectNearest(List<? extends Candidate> candidates, WaiterWorkQueue.Work work,
+                                    WorkLocator workLocator) {
+        int nearest = -1;
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            double distance = workLocator.distanceSquared(work, candidate.getCurrentX(), candidate.getCurrentY());
+            if (distance < best) {
+                best = distance;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+}
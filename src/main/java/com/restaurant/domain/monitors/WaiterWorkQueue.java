@@ -0,0 +1,80 @@
+package com.restaurant.domain.monitors;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class WaiterWorkQueue {
+    private final Queue<Work> deliveries = new ArrayDeque<>();
+    private final Queue<Work> customers = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+
+    public enum WorkType {
+        DELIVER_ORDER,
+        TAKE_ORDER
+    }
+
+    public static class Work {
+        public final WorkType type;
+        public final int tableNumber;
+
+        public Work(WorkType type, int tableNumber) {
+            this.type = type;
+            this.tableNumber = tableNumber;
+        }
+    }
+
+    public void submit(WorkType type, int tableNumber) {
+        Work work = new Work(type, tableNumber);
+        lock.lock();
+        try {
+            if (type == WorkType.DELIVER_ORDER) {
+                deliveries.add(work);
+            } else {
+                customers.add(work);
+            }
+            workAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Las entregas tienen prioridad sobre tomar nuevas órdenes, igual que antes del cambio
+    public Work take() throws InterruptedException {
+        lock.lock();
+        try {
+            Work work;
+            while ((work = next()) == null) {
+                workAvailable.await();
+            }
+            return work;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Work poll() {
+        lock.lock();
+        try {
+            return next();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return deliveries.size() + customers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Work next() {
+        Work work = deliveries.poll();
+        return work != null ? work : customers.poll();
+    }
+}
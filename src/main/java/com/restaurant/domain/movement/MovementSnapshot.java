@@ -0,0 +1,40 @@
+package com.restaurant.domain.movement;
+
+import java.util.Arrays;
+
+// Posiciones de todos los agentes tras un paso de SimulationLoop. Una vez publicada no cambia hasta
+// que quien la consume la devuelve con SimulationLoop.recycle().
+public class MovementSnapshot {
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private int[] placements = new int[0];
+    private int count;
+    private long step;
+    private long simulatedNanos;
+
+    void fill(double[] sourceX, double[] sourceY, int[] sourcePlacements, int agents) {
+        if (x.length < agents) {
+            int capacity = Math.max(agents, x.length * 2);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            placements = Arrays.copyOf(placements, capacity);
+        }
+        System.arraycopy(sourceX, 0, x, 0, agents);
+        System.arraycopy(sourceY, 0, y, 0, agents);
+        System.arraycopy(sourcePlacements, 0, placements, 0, agents);
+        count = agents;
+    }
+
+    void stamp(long step, long simulatedNanos) {
+        this.step = step;
+        this.simulatedNanos = simulatedNanos;
+    }
+
+    public double getX(int agent) { return x[agent]; }
+    public double getY(int agent) { return y[agent]; }
+    public int getPlacement(int agent) { return placements[agent]; }
+    public int getCount() { return count; }
+    public long getStep() { return step; }
+    // Instante del SimulationClock al que corresponden las posiciones
+    public long getSimulatedNanos() { return simulatedNanos; }
+}
@@ -0,0 +1,248 @@
+package com.restaurant.domain.movement;
+
+import com.almasb.fxgl.entity.Entity;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Mueve a todos los agentes en una sola pasada por cuadro. Posiciones, destinos y velocidades viven
+// en arreglos primitivos indexados por un identificador de agente, y sólo se recorren los que están
+// en movimiento. Las llegadas se acumulan durante la pasada y se notifican juntas al terminarla,
+// fuera del candado, para que los callbacks puedan ordenar el siguiente movimiento.
+// update() corre en el hilo de SimulationLoop y no toca las entidades: éstas se colocan en el hilo
+// de JavaFX con applyPositions() a partir de las instantáneas interpoladas. register(), place() y
+// applyPositions() corren en el hilo de JavaFX; moveTo() y stop() desde cualquier hilo.
+public class MovementSystem {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] targetX = new double[INITIAL_CAPACITY];
+    private double[] targetY = new double[INITIAL_CAPACITY];
+    private double[] speed = new double[INITIAL_CAPACITY];
+    private int[] moveIds = new int[INITIAL_CAPACITY];
+    // Cambia en cada place(): entre dos instantáneas con distinto valor no se interpola
+    private int[] placements = new int[INITIAL_CAPACITY];
+    private int[] moverSlots = new int[INITIAL_CAPACITY];
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private ArrivalListener[] listeners = new ArrivalListener[INITIAL_CAPACITY];
+    private int size;
+    private int[] freeAgents = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    // Agentes en movimiento, compactos para recorrerlos sin saltos
+    private int[] movers = new int[INITIAL_CAPACITY];
+    private int moverCount;
+    private int nextMoveId;
+    // Llegadas del cuadro actual; sólo las usa el hilo que llama a update()
+    private int arrivedCount;
+    private int[] arrivedMoveIds = new int[INITIAL_CAPACITY];
+    private ArrivalListener[] arrivedListeners = new ArrivalListener[INITIAL_CAPACITY];
+
+    // moveId identifica el movimiento que terminó; si el agente ya recibió otro destino se puede ignorar
+    public interface ArrivalListener {
+        void onArrival(int moveId);
+    }
+
+    // entity puede ser null para agentes sin representación en pantalla
+    public int register(Entity entity, double startX, double startY, double agentSpeed, ArrivalListener listener) {
+        lock.lock();
+        try {
+            int agent = freeCount > 0 ? freeAgents[--freeCount] : size++;
+            if (agent == x.length) {
+                grow(agent * 2);
+            }
+            x[agent] = startX;
+            y[agent] = startY;
+            speed[agent] = agentSpeed;
+            entities[agent] = entity;
+            listeners[agent] = listener;
+            moverSlots[agent] = -1;
+            syncEntity(agent);
+            return agent;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void unregister(int agent) {
+        lock.lock();
+        try {
+            removeMover(agent);
+            entities[agent] = null;
+            listeners[agent] = null;
+            freeAgents[freeCount++] = agent;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int moveTo(int agent, double destinationX, double destinationY) {
+        lock.lock();
+        try {
+            targetX[agent] = destinationX;
+            targetY[agent] = destinationY;
+            if (moverSlots[agent] == -1) {
+                moverSlots[agent] = moverCount;
+                movers[moverCount++] = agent;
+            }
+            return moveIds[agent] = ++nextMoveId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void stop(int agent) {
+        lock.lock();
+        try {
+            removeMover(agent);
+            moveIds[agent] = ++nextMoveId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void place(int agent, double newX, double newY) {
+        lock.lock();
+        try {
+            removeMover(agent);
+            moveIds[agent] = ++nextMoveId;
+            placements[agent]++;
+            x[agent] = newX;
+            y[agent] = newY;
+            syncEntity(agent);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getX(int agent) {
+        lock.lock();
+        try {
+            return x[agent];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getY(int agent) {
+        lock.lock();
+        try {
+            return y[agent];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Copia las posiciones de todos los agentes en una sola toma del candado
+    void capture(MovementSnapshot snapshot) {
+        lock.lock();
+        try {
+            snapshot.fill(x, y, placements, size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Coloca las entidades en las posiciones dadas; sólo desde el hilo de JavaFX, igual que register()
+    public void applyPositions(double[] positionsX, double[] positionsY, int count) {
+        Entity[] current = entities;
+        int limit = Math.min(count, current.length);
+        for (int agent = 0; agent < limit; agent++) {
+            Entity entity = current[agent];
+            if (entity != null) {
+                entity.setPosition(positionsX[agent], positionsY[agent]);
+            }
+        }
+    }
+
+    public int getMoverCount() {
+        lock.lock();
+        try {
+            return moverCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void update(double tpf) {
+        lock.lock();
+        try {
+            int i = 0;
+            while (i < moverCount) {
+                int agent = movers[i];
+                double dx = targetX[agent] - x[agent];
+                double dy = targetY[agent] - y[agent];
+                double distance = Math.sqrt(dx * dx + dy * dy);
+                double step = speed[agent] * tpf;
+                if (distance <= step) {
+                    x[agent] = targetX[agent];
+                    y[agent] = targetY[agent];
+                    addArrival(agent);
+                    // El último ocupa este lugar, así que se vuelve a revisar el mismo índice
+                    removeMover(agent);
+                } else {
+                    double scale = step / distance;
+                    x[agent] += dx * scale;
+                    y[agent] += dy * scale;
+                    i++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        int arrivals = arrivedCount;
+        arrivedCount = 0;
+        for (int k = 0; k < arrivals; k++) {
+            ArrivalListener listener = arrivedListeners[k];
+            arrivedListeners[k] = null;
+            listener.onArrival(arrivedMoveIds[k]);
+        }
+    }
+
+    private void addArrival(int agent) {
+        if (listeners[agent] == null) {
+            return;
+        }
+        if (arrivedCount == arrivedListeners.length) {
+            arrivedListeners = Arrays.copyOf(arrivedListeners, arrivedCount * 2);
+            arrivedMoveIds = Arrays.copyOf(arrivedMoveIds, arrivedCount * 2);
+        }
+        arrivedListeners[arrivedCount] = listeners[agent];
+        arrivedMoveIds[arrivedCount] = moveIds[agent];
+        arrivedCount++;
+    }
+
+    private void removeMover(int agent) {
+        int slot = moverSlots[agent];
+        if (slot == -1) {
+            return;
+        }
+        int last = movers[--moverCount];
+        movers[slot] = last;
+        moverSlots[last] = slot;
+        moverSlots[agent] = -1;
+    }
+
+    private void syncEntity(int agent) {
+        Entity entity = entities[agent];
+        if (entity != null) {
+            entity.setPosition(x[agent], y[agent]);
+        }
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        moveIds = Arrays.copyOf(moveIds, capacity);
+        placements = Arrays.copyOf(placements, capacity);
+        moverSlots = Arrays.copyOf(moverSlots, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        listeners = Arrays.copyOf(listeners, capacity);
+        freeAgents = Arrays.copyOf(freeAgents, capacity);
+        movers = Arrays.copyOf(movers, capacity);
+    }
+}
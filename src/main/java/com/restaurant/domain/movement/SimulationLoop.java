@@ -0,0 +1,100 @@
+package com.restaurant.domain.movement;
+
+import com.restaurant.utils.SimulationClock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// Avanza MovementSystem con un paso fijo de tiempo simulado en su propio hilo, sin depender de los
+// cuadros de JavaFX. Sigue al SimulationClock: a mayor velocidad da más pasos por segundo real, nunca
+// pasos más largos, y nunca descarta pasos, así que el recorrido es el mismo a 1× que a 1000×.
+// Tras cada tanda de pasos publica una instantánea; el hilo de dibujo toma la más reciente y devuelve
+// las que ya no usa, así que en régimen estable no se reservan instantáneas nuevas.
+public class SimulationLoop {
+    private final MovementSystem movementSystem;
+    private final SimulationClock clock;
+    private final long stepNanos;
+    private final double stepSeconds;
+    private final AtomicReference<MovementSnapshot> latest = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<MovementSnapshot> recycled = new ConcurrentLinkedQueue<>();
+    private volatile boolean running;
+    private volatile long steps;
+    private long simulatedNanos;
+    private Thread thread;
+
+    public SimulationLoop(MovementSystem movementSystem, SimulationClock clock, int stepsPerSecond) {
+        if (stepsPerSecond <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos un paso por segundo");
+        }
+        this.movementSystem = movementSystem;
+        this.clock = clock;
+        this.stepNanos = 1_000_000_000L / stepsPerSecond;
+        this.stepSeconds = stepNanos / 1e9;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        simulatedNanos = clock.nanos();
+        publish();
+        thread = Thread.ofPlatform().daemon().name("simulation-loop").start(this::run);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    // Entrega la instantánea publicada más reciente, o null si no hubo otra desde la última llamada
+    public MovementSnapshot poll() {
+        return latest.getAndSet(null);
+    }
+
+    public void recycle(MovementSnapshot snapshot) {
+        recycled.offer(snapshot);
+    }
+
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    private void run() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            long target = clock.nanos();
+            int taken = 0;
+            while (target - simulatedNanos >= stepNanos) {
+                movementSystem.update(stepSeconds);
+                simulatedNanos += stepNanos;
+                taken++;
+            }
+            if (taken > 0) {
+                steps += taken;
+                publish();
+            }
+            // En pausa el reloj no avanza; se revisa de nuevo tras un paso a velocidad normal
+            long remaining = stepNanos - (target - simulatedNanos);
+            LockSupport.parkNanos(clock.isPaused() ? stepNanos : (long) (remaining / clock.getSpeed()));
+        }
+    }
+
+    private void publish() {
+        MovementSnapshot snapshot = recycled.poll();
+        if (snapshot == null) {
+            snapshot = new MovementSnapshot();
+        }
+        movementSystem.capture(snapshot);
+        snapshot.stamp(steps, simulatedNanos);
+        MovementSnapshot unread = latest.getAndSet(snapshot);
+        if (unread != null) {
+            recycled.offer(unread);
+        }
+    }
+}
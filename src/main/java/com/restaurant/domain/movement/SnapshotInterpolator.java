@@ -0,0 +1,72 @@
+package com.restaurant.domain.movement;
+
+import java.util.Arrays;
+
+// Lado de dibujo de SimulationLoop: conserva las dos últimas instantáneas y, en cada cuadro, mezcla
+// sus posiciones según el tiempo simulado transcurrido desde la más reciente. Se dibuja un paso atrás de la
+// simulación a cambio de un movimiento suave aunque el hilo de JavaFX pierda cuadros. Sólo se usa
+// desde el hilo de JavaFX.
+public class SnapshotInterpolator {
+    private final SimulationLoop simulationLoop;
+    private final MovementSystem movementSystem;
+    private MovementSnapshot previous;
+    private MovementSnapshot current;
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private int count;
+
+    public SnapshotInterpolator(SimulationLoop simulationLoop, MovementSystem movementSystem) {
+        this.simulationLoop = simulationLoop;
+        this.movementSystem = movementSystem;
+    }
+
+    // Calcula las posiciones para el instante now (SimulationClock.nanos) y las aplica a las entidades
+    public void update(long now) {
+        MovementSnapshot fresh = simulationLoop.poll();
+        if (fresh != null) {
+            if (previous != null) {
+                simulationLoop.recycle(previous);
+            }
+            previous = current;
+            current = fresh;
+        }
+        if (current == null) {
+            return;
+        }
+
+        count = current.getCount();
+        if (x.length < count) {
+            x = Arrays.copyOf(x, Math.max(count, x.length * 2));
+            y = Arrays.copyOf(y, x.length);
+        }
+        double alpha = alpha(now);
+        for (int agent = 0; agent < count; agent++) {
+            double toX = current.getX(agent);
+            double toY = current.getY(agent);
+            if (alpha >= 1.0 || agent >= previous.getCount()
+                    || previous.getPlacement(agent) != current.getPlacement(agent)) {
+                x[agent] = toX;
+                y[agent] = toY;
+            } else {
+                x[agent] = previous.getX(agent) + (toX - previous.getX(agent)) * alpha;
+                y[agent] = previous.getY(agent) + (toY - previous.getY(agent)) * alpha;
+            }
+        }
+        movementSystem.applyPositions(x, y, count);
+    }
+
+    private double alpha(long now) {
+        if (previous == null) {
+            return 1.0;
+        }
+        long span = current.getSimulatedNanos() - previous.getSimulatedNanos();
+        if (span <= 0) {
+            return 1.0;
+        }
+        return Math.min(1.0, Math.max(0.0, (now - current.getSimulatedNanos()) / (double) span));
+    }
+
+    public double getX(int agent) { return x[agent]; }
+    public double getY(int agent) { return y[agent]; }
+    public int getCount() { return count; }
+}
@@ -0,0 +1,106 @@
+package com.restaurant.metrics;
+
+// Histograma log-lineal al estilo HDR: valores menores a 128 son exactos y a partir de ahí cada
+// potencia de dos se divide en 64 sub-cubetas, con error relativo menor a 1/64. Se puede sumar con
+// otros histogramas. No es seguro entre hilos; LatencyRecorder lo usa sólo como instantánea.
+public class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final long MAX_VALUE = (1L << 32) - 1;
+    static final int BUCKETS = indexFor(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long sum;
+    private long max;
+
+    static int indexFor(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_VALUE));
+        int magnitude = Math.max(0, 63 - Long.numberOfLeadingZeros(clamped) - SUB_BUCKET_BITS);
+        return magnitude * SUB_BUCKETS + (int) (clamped >>> magnitude);
+    }
+
+    static long highestValueAt(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index - magnitude * SUB_BUCKETS) << magnitude;
+        return lowest + (1L << magnitude) - 1;
+    }
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts[indexFor(clamped)]++;
+        totalCount++;
+        sum += clamped;
+        max = Math.max(max, clamped);
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    // Deja sólo lo registrado después de earlier, una instantánea anterior del mismo recolector.
+    // El máximo no se puede descontar y sigue siendo el acumulado.
+    public void subtract(LatencyHistogram earlier) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] -= earlier.counts[i];
+        }
+        totalCount -= earlier.totalCount;
+        sum -= earlier.sum;
+    }
+
+    void addTotals(long valueSum, long valueMax) {
+        sum += valueSum;
+        max = Math.max(max, valueMax);
+    }
+
+    void addBucket(int index, long count) {
+        counts[index] += count;
+        totalCount += count;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    // percentile en [0, 100]; devuelve el mayor valor equivalente de la cubeta, acotado por el máximo visto
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%d p99=%d p999=%d máx=%d",
+                totalCount,
+                getValueAtPercentile(50),
+                getValueAtPercentile(99),
+                getValueAtPercentile(99.9),
+                max);
+    }
+}
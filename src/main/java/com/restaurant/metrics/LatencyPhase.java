@@ -0,0 +1,14 @@
+package com.restaurant.metrics;
+
+public enum LatencyPhase {
+    // Ciclo del cliente
+    WAITING_FOR_TABLE,
+    WAITING_FOR_WAITER,
+    WAITING_FOR_FOOD,
+    EATING,
+    TIME_IN_RESTAURANT,
+    // Ciclo de la orden
+    KITCHEN_QUEUE,
+    PREPARATION,
+    DELIVERY
+}
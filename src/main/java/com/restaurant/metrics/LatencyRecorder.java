@@ -0,0 +1,91 @@
+package com.restaurant.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Registra duraciones por fase sin reservar memoria. Los agentes corren en un hilo nuevo por tarea,
+// así que en vez de un histograma por hilo (que crecería sin límite) se reparten en franjas por
+// identificador de hilo, como LongAdder; la lectura suma todas las franjas.
+public class LatencyRecorder {
+    private static final int PHASES = LatencyPhase.values().length;
+    private static final int MAX_DEFAULT_STRIPES = 8;
+    private static final LatencyRecorder GLOBAL = new LatencyRecorder();
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private static class Stripe {
+        final AtomicLongArray counts = new AtomicLongArray(PHASES * LatencyHistogram.BUCKETS);
+        final AtomicLong[] sums = new AtomicLong[PHASES];
+        final AtomicLong[] maxima = new AtomicLong[PHASES];
+
+        Stripe() {
+            for (int i = 0; i < PHASES; i++) {
+                sums[i] = new AtomicLong();
+                maxima[i] = new AtomicLong();
+            }
+        }
+    }
+
+    public LatencyRecorder() {
+        this(Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_STRIPES));
+    }
+
+    public LatencyRecorder(int concurrency) {
+        int size = concurrency <= 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+        stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        mask = size - 1;
+    }
+
+    // Recolector compartido por las entidades del juego
+    public static LatencyRecorder global() {
+        return GLOBAL;
+    }
+
+    public void record(LatencyPhase phase, long durationMillis) {
+        long value = Math.max(0, durationMillis);
+        long id = Thread.currentThread().threadId();
+        Stripe stripe = stripes[(int) (id ^ (id >>> 16)) & mask];
+        int p = phase.ordinal();
+        stripe.counts.incrementAndGet(p * LatencyHistogram.BUCKETS + LatencyHistogram.indexFor(value));
+        stripe.sums[p].addAndGet(value);
+        stripe.maxima[p].accumulateAndGet(value, Math::max);
+    }
+
+    public LatencyHistogram snapshot(LatencyPhase phase) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int p = phase.ordinal();
+        int offset = p * LatencyHistogram.BUCKETS;
+        for (Stripe stripe : stripes) {
+            for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+                long count = stripe.counts.get(offset + i);
+                if (count != 0) {
+                    histogram.addBucket(i, count);
+                }
+            }
+            histogram.addTotals(stripe.sums[p].get(), stripe.maxima[p].get());
+        }
+        return histogram;
+    }
+
+    public Map<LatencyPhase, LatencyHistogram> snapshot() {
+        Map<LatencyPhase, LatencyHistogram> snapshot = new EnumMap<>(LatencyPhase.class);
+        for (LatencyPhase phase : LatencyPhase.values()) {
+            snapshot.put(phase, snapshot(phase));
+        }
+        return snapshot;
+    }
+
+    public static String format(Map<LatencyPhase, LatencyHistogram> snapshot) {
+        StringBuilder builder = new StringBuilder("Latencias por fase (ms):");
+        for (Map.Entry<LatencyPhase, LatencyHistogram> entry : snapshot.entrySet()) {
+            builder.append(String.format("%n  %-20s %s", entry.getKey(), entry.getValue()));
+        }
+        return builder.toString();
+    }
+}
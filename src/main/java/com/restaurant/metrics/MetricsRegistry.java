@@ -0,0 +1,215 @@
+package com.restaurant.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+// Indicadores en vivo que se leen al consultarlos, sin muestreo en segundo plano. Cada grupo se
+// publica como un MBean com.restaurant:type=<grupo>[,<etiqueta>=<valor>] y sus métricas salen en el
+// formato de texto de Prometheus con la etiqueta del grupo.
+public class MetricsRegistry {
+    public static final String JMX_DOMAIN = "com.restaurant";
+
+    private final List<Group> groups = new CopyOnWriteArrayList<>();
+    private final List<ObjectName> registeredBeans = new ArrayList<>();
+
+    private record Metric(String attribute, String name, String help, boolean counter, DoubleSupplier value) {
+    }
+
+    private record Series(Group group, Metric metric) {
+    }
+
+    public static class Group {
+        private final String type;
+        private final String labelName;
+        private final String labelValue;
+        private final List<Metric> metrics = new CopyOnWriteArrayList<>();
+
+        private Group(String type, String labelName, String labelValue) {
+            this.type = type;
+            this.labelName = labelName;
+            this.labelValue = labelValue;
+        }
+
+        public Group gauge(String attribute, String name, String help, DoubleSupplier value) {
+            metrics.add(new Metric(attribute, name, help, false, value));
+            return this;
+        }
+
+        // Valor que sólo crece; Prometheus calcula el ritmo con rate()
+        public Group counter(String attribute, String name, String help, DoubleSupplier value) {
+            metrics.add(new Metric(attribute, name, help, true, value));
+            return this;
+        }
+
+        private ObjectName objectName() throws JMException {
+            String name = JMX_DOMAIN + ":type=" + type;
+            if (labelName != null) {
+                String value = labelValue.matches("[\\w.-]+") ? labelValue : ObjectName.quote(labelValue);
+                name += "," + labelName + "=" + value;
+            }
+            return new ObjectName(name);
+        }
+    }
+
+    public Group group(String type) {
+        return group(type, null, null);
+    }
+
+    public Group group(String type, String labelName, String labelValue) {
+        Group group = new Group(type, labelName, labelValue);
+        groups.add(group);
+        return group;
+    }
+
+    // Texto de exposición de Prometheus; las series con el mismo nombre comparten HELP y TYPE
+    public String scrape() {
+        Map<String, List<Series>> families = new LinkedHashMap<>();
+        for (Group group : groups) {
+            for (Metric metric : group.metrics) {
+                families.computeIfAbsent(metric.name(), name -> new ArrayList<>()).add(new Series(group, metric));
+            }
+        }
+        StringBuilder out = new StringBuilder(families.size() * 128);
+        for (List<Series> family : families.values()) {
+            Metric first = family.get(0).metric();
+            out.append("# HELP ").append(first.name()).append(' ').append(escapeHelp(first.help())).append('\n');
+            out.append("# TYPE ").append(first.name()).append(first.counter() ? " counter\n" : " gauge\n");
+            for (Series series : family) {
+                Group group = series.group();
+                Metric metric = series.metric();
+                out.append(metric.name());
+                if (group.labelName != null) {
+                    out.append('{').append(group.labelName).append("=\"")
+                            .append(escapeLabel(group.labelValue)).append("\"}");
+                }
+                out.append(' ').append(format(metric.value().getAsDouble())).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    public synchronized void registerMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (Group group : groups) {
+            try {
+                ObjectName name = group.objectName();
+                // Otra instancia en la misma JVM (p. ej. una simulación anterior) deja de publicarse
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(new GroupMBean(group), name);
+                registeredBeans.add(name);
+            } catch (JMException e) {
+                throw new IllegalStateException("No se pudo registrar el MBean " + group.type, e);
+            }
+        }
+    }
+
+    public synchronized void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredBeans) {
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                System.err.println("No se pudo retirar el MBean " + name + ": " + e.getMessage());
+            }
+        }
+        registeredBeans.clear();
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabel(String value) {
+        return escapeHelp(value).replace("\"", "\\\"");
+    }
+
+    // Atributos de sólo lectura, uno por métrica del grupo
+    private static class GroupMBean implements DynamicMBean {
+        private final Group group;
+
+        GroupMBean(Group group) {
+            this.group = group;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            for (Metric metric : group.metrics) {
+                if (metric.attribute().equals(attribute)) {
+                    return metric.value().getAsDouble();
+                }
+            }
+            throw new AttributeNotFoundException("Atributo desconocido: " + attribute);
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Atributo de sólo lectura: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                try {
+                    list.add(new Attribute(attribute, getAttribute(attribute)));
+                } catch (AttributeNotFoundException e) {
+                    // JMX omite los atributos que no existen
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+            throw new ReflectionException(new NoSuchMethodException(actionName));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[group.metrics.size()];
+            for (int i = 0; i < attributes.length; i++) {
+                Metric metric = group.metrics.get(i);
+                attributes[i] = new MBeanAttributeInfo(metric.attribute(), Double.class.getName(), metric.help(),
+                        true, false, false);
+            }
+            return new MBeanInfo(GroupMBean.class.getName(), group.type, attributes, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.restaurant.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Sirve MetricsRegistry en http://127.0.0.1:<puerto>/metrics con el servidor HTTP del JDK.
+// Sólo escucha en la interfaz local y atiende las consultas en un único hilo daemon.
+public class MetricsServer implements AutoCloseable {
+    public static final String PORT_PROPERTY = "restaurant.metrics.port";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    // Con puerto 0 el sistema elige uno libre; getPort() dice cuál
+    public static MetricsServer start(MetricsRegistry registry, int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            ExecutorService executor = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("metrics-http").daemon(true).factory());
+            server.setExecutor(executor);
+            server.createContext("/metrics", exchange -> serve(exchange, registry));
+            server.start();
+            return new MetricsServer(server, executor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el puerto de métricas " + port, e);
+        }
+    }
+
+    // -Drestaurant.metrics.port=<puerto>; sin la propiedad no se abre ningún puerto
+    public static MetricsServer fromSystemProperties(MetricsRegistry registry) {
+        String value = System.getProperty(PORT_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return start(registry, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Puerto de métricas inválido: " + value, e);
+        }
+    }
+
+    private static void serve(HttpExchange exchange, MetricsRegistry registry) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,134 @@
+package com.restaurant.metrics;
+
+import com.restaurant.domain.admission.AdmissionPolicy;
+import com.restaurant.domain.entities.Cook;
+import com.restaurant.domain.entities.Receptionist;
+import com.restaurant.domain.entities.Waiter;
+import com.restaurant.domain.models.CustomerStats;
+import com.restaurant.domain.monitors.CustomerQueueMonitor;
+import com.restaurant.domain.monitors.OrderQueueMonitor;
+import com.restaurant.domain.monitors.RestaurantMonitor;
+import com.restaurant.utils.SimulationClock;
+import java.util.Locale;
+
+// Nombres y descripciones de los indicadores del restaurante, compartidos por el juego y la simulación
+public final class RestaurantMetrics {
+
+    private RestaurantMetrics() {
+    }
+
+    public static void register(MetricsRegistry registry, RestaurantMonitor restaurantMonitor) {
+        registry.group("RestaurantMonitor")
+                .gauge("OccupiedTables", "restaurant_tables_occupied", "Mesas ocupadas",
+                        restaurantMonitor::getOccupiedTables)
+                .gauge("TotalTables", "restaurant_tables_total", "Mesas del restaurante",
+                        restaurantMonitor::getTotalTables)
+                .gauge("WaitingRequests", "restaurant_table_requests_waiting", "Clientes bloqueados esperando mesa",
+                        restaurantMonitor::getWaitingRequests);
+    }
+
+    public static void register(MetricsRegistry registry, OrderQueueMonitor orderQueueMonitor) {
+        registry.group("OrderQueueMonitor")
+                .gauge("PendingOrders", "restaurant_orders_pending", "Órdenes esperando cocinero",
+                        orderQueueMonitor::getPendingCount)
+                .gauge("InProcessOrders", "restaurant_orders_in_process", "Órdenes en preparación",
+                        orderQueueMonitor::getInProcessCount)
+                .gauge("ReadyOrders", "restaurant_orders_ready", "Órdenes listas sin entregar",
+                        orderQueueMonitor::getReadyCount)
+                .counter("CompletedOrders", "restaurant_orders_completed_total", "Órdenes terminadas por la cocina",
+                        orderQueueMonitor::getCompletedCount)
+                .counter("DeliveredOrders", "restaurant_orders_delivered_total", "Órdenes entregadas en la mesa",
+                        orderQueueMonitor::getDeliveredCount);
+    }
+
+    public static void register(MetricsRegistry registry, CustomerQueueMonitor<?> customerQueueMonitor) {
+        registry.group("CustomerQueueMonitor")
+                .gauge("WaitingCustomers", "restaurant_customers_waiting_waiter", "Clientes sentados esperando mesero",
+                        customerQueueMonitor::getWaitingCount);
+    }
+
+    public static void register(MetricsRegistry registry, Receptionist receptionist) {
+        registry.group("Receptionist")
+                .gauge("QueueLength", "restaurant_reception_queue", "Clientes en la fila de la recepción",
+                        receptionist::getWaitingCount);
+    }
+
+    // Los límites ausentes se publican como +Inf
+    public static void register(MetricsRegistry registry, AdmissionPolicy admissionPolicy) {
+        registry.group("AdmissionPolicy")
+                .gauge("MaxQueueLength", "restaurant_admission_max_queue", "Clientes que admite la fila de la recepción",
+                        () -> admissionPolicy.getMaxQueueLength() == Integer.MAX_VALUE
+                                ? Double.POSITIVE_INFINITY : admissionPolicy.getMaxQueueLength())
+                .gauge("BalkingPerCustomer", "restaurant_admission_balking_per_customer",
+                        "Probabilidad de desistir que agrega cada cliente en la fila",
+                        admissionPolicy::getBalkingPerCustomer)
+                .gauge("MeanPatienceSeconds", "restaurant_admission_mean_patience_seconds",
+                        "Paciencia media en la fila antes de abandonarla",
+                        () -> admissionPolicy.hasPatienceLimit()
+                                ? admissionPolicy.getMeanPatienceMillis() / 1000.0 : Double.POSITIVE_INFINITY);
+    }
+
+    public static void register(MetricsRegistry registry, Cook cook) {
+        registry.group("Cook", "cook", Integer.toString(cook.getId()))
+                .gauge("Busy", "restaurant_cook_busy", "1 si el cocinero prepara una orden",
+                        () -> cook.isBusy() ? 1 : 0)
+                .counter("BusySeconds", "restaurant_cook_busy_seconds_total", "Segundos simulados cocinando",
+                        () -> cook.getBusyMillis() / 1000.0)
+                .gauge("Utilization", "restaurant_cook_utilization", "Fracción del tiempo simulado cocinando",
+                        cook::getUtilization);
+    }
+
+    public static void register(MetricsRegistry registry, Waiter waiter) {
+        registry.group("Waiter", "waiter", Integer.toString(waiter.getId()))
+                .gauge("Busy", "restaurant_waiter_busy", "1 si el mesero atiende una tarea",
+                        () -> waiter.isBusy() ? 1 : 0)
+                .gauge("State", "restaurant_waiter_state", "Estado del mesero: " + stateLegend(),
+                        () -> waiter.getState().ordinal());
+    }
+
+    public static void register(MetricsRegistry registry, CustomerStats customerStats) {
+        registry.group("CustomerStats")
+                .gauge("WaitingTable", "restaurant_customers_waiting_table", "Clientes esperando mesa",
+                        customerStats::getCustomersWaitingTable)
+                .gauge("WaitingFood", "restaurant_customers_waiting_food", "Clientes esperando su comida",
+                        customerStats::getCustomersWaitingFood)
+                .gauge("Eating", "restaurant_customers_eating", "Clientes comiendo",
+                        customerStats::getCustomersEating)
+                .counter("Balked", "restaurant_customers_balked_total", "Clientes que se fueron al ver la fila",
+                        customerStats::getCustomersBalked)
+                .counter("Reneged", "restaurant_customers_reneged_total", "Clientes que se cansaron de esperar mesa",
+                        customerStats::getCustomersReneged);
+    }
+
+    public static void register(MetricsRegistry registry, SimulationClock clock) {
+        registry.group("SimulationClock")
+                .gauge("SimulatedSeconds", "restaurant_clock_seconds", "Tiempo simulado transcurrido",
+                        () -> clock.now() / 1000.0)
+                .gauge("Speed", "restaurant_clock_speed", "Velocidad del reloj respecto al tiempo real",
+                        () -> clock.isPaused() ? 0 : clock.getSpeed());
+    }
+
+    // Cada consulta toma una instantánea del histograma de la fase; son pocas fases y pocas consultas
+    public static void register(MetricsRegistry registry, LatencyRecorder latencyRecorder) {
+        for (LatencyPhase phase : LatencyPhase.values()) {
+            registry.group("Latency", "phase", phase.name().toLowerCase(Locale.ROOT))
+                    .counter("Count", "restaurant_latency_count_total", "Duraciones registradas por fase",
+                            () -> latencyRecorder.snapshot(phase).getTotalCount())
+                    .gauge("MeanMillis", "restaurant_latency_mean_millis", "Duración media por fase",
+                            () -> latencyRecorder.snapshot(phase).getMean())
+                    .gauge("P99Millis", "restaurant_latency_p99_millis", "Percentil 99 de la duración por fase",
+                            () -> latencyRecorder.snapshot(phase).getValueAtPercentile(99));
+        }
+    }
+
+    private static String stateLegend() {
+        StringBuilder legend = new StringBuilder();
+        for (Waiter.WaiterState state : Waiter.WaiterState.values()) {
+            if (!legend.isEmpty()) {
+                legend.append(", ");
+            }
+            legend.append(state.ordinal()).append('=').append(state);
+        }
+        return legend.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.restaurant.metrics;
+
+// Historial de una magnitud en anillos de tamaño fijo sobre el tiempo simulado. El nivel 0 guarda
+// un punto por cubeta de bucketMillis; cada nivel siguiente junta factor puntos del anterior, así
+// que las ventanas largas se leen ya reducidas y la memoria no crece con la duración de la corrida.
+// No es seguro entre hilos; lo usa sólo el hilo de JavaFX.
+public class TimeSeries {
+
+    public enum Aggregation {
+        // Magnitudes instantáneas, como el largo de una cola
+        MEAN,
+        // Percentiles, para que un pico no se diluya al reducir
+        MAX,
+        // Contadores acumulados; la tasa se obtiene restando puntos consecutivos
+        LAST
+    }
+
+    private final Aggregation aggregation;
+    private final Level[] levels;
+    // Cubeta de nivel 0 que se está llenando y sus muestras
+    private long currentBucket = Long.MIN_VALUE;
+    private double sum;
+    private double max;
+    private double last;
+    private int samples;
+    private long version;
+
+    private static class Level {
+        final double[] values;
+        final long bucketMillis;
+        final int factor;
+        int head;
+        int size;
+        // Puntos de este nivel acumulados para el siguiente
+        double sum;
+        double max;
+        double last;
+        int pending;
+
+        Level(int capacity, long bucketMillis, int factor) {
+            this.values = new double[capacity];
+            this.bucketMillis = bucketMillis;
+            this.factor = factor;
+        }
+    }
+
+    // factors[i] es cuántos puntos del nivel i forman uno del nivel i + 1
+    public TimeSeries(long bucketMillis, int capacity, Aggregation aggregation, int... factors) {
+        if (bucketMillis <= 0 || capacity <= 1) {
+            throw new IllegalArgumentException("La serie necesita cubetas de más de 0 ms y al menos 2 puntos");
+        }
+        this.aggregation = aggregation;
+        this.levels = new Level[factors.length + 1];
+        long millis = bucketMillis;
+        for (int i = 0; i < levels.length; i++) {
+            int factor = i < factors.length ? factors[i] : 0;
+            if (i < factors.length && factor < 2) {
+                throw new IllegalArgumentException("Cada nivel debe juntar al menos 2 puntos del anterior");
+            }
+            levels[i] = new Level(capacity, millis, factor);
+            millis *= Math.max(factor, 1);
+        }
+    }
+
+    public void add(long timeMillis, double value) {
+        long bucket = Math.floorDiv(timeMillis, levels[0].bucketMillis);
+        if (currentBucket == Long.MIN_VALUE) {
+            currentBucket = bucket;
+        } else if (bucket > currentBucket) {
+            double closed = aggregate(sum, max, last, samples);
+            push(0, closed);
+            // Las cubetas que el reloj saltó sin muestras se interpolan entre la cerrada y la nueva;
+            // más allá de lo que cabe en el último nivel no vale la pena rellenar
+            long gap = Math.min(bucket - currentBucket - 1, coveredBuckets());
+            for (long i = 1; i <= gap; i++) {
+                push(0, closed + (value - closed) * i / (gap + 1));
+            }
+            currentBucket = bucket;
+            samples = 0;
+        }
+        if (samples == 0) {
+            sum = 0;
+            max = value;
+        }
+        sum += value;
+        max = Math.max(max, value);
+        last = value;
+        samples++;
+    }
+
+    private void push(int index, double value) {
+        Level level = levels[index];
+        level.values[level.head] = value;
+        level.head = (level.head + 1) % level.values.length;
+        level.size = Math.min(level.size + 1, level.values.length);
+        version++;
+        if (index + 1 == levels.length) {
+            return;
+        }
+        if (level.pending == 0) {
+            level.sum = 0;
+            level.max = value;
+        }
+        level.sum += value;
+        level.max = Math.max(level.max, value);
+        level.last = value;
+        if (++level.pending == level.factor) {
+            double reduced = aggregate(level.sum, level.max, level.last, level.pending);
+            level.pending = 0;
+            push(index + 1, reduced);
+        }
+    }
+
+    private double aggregate(double total, double highest, double latest, int count) {
+        return switch (aggregation) {
+            case MEAN -> total / count;
+            case MAX -> highest;
+            case LAST -> latest;
+        };
+    }
+
+    private long coveredBuckets() {
+        Level top = levels[levels.length - 1];
+        return top.values.length * (top.bucketMillis / levels[0].bucketMillis);
+    }
+
+    // Nivel más fino cuyo anillo abarca la ventana, o el más grueso si ninguno alcanza
+    public int levelFor(long windowMillis) {
+        for (int i = 0; i < levels.length; i++) {
+            if ((long) levels[i].values.length * levels[i].bucketMillis >= windowMillis) {
+                return i;
+            }
+        }
+        return levels.length - 1;
+    }
+
+    // Copia a out los últimos puntos del nivel, del más viejo al más nuevo, y devuelve cuántos copió
+    public int copy(int level, int maxPoints, double[] out) {
+        Level source = levels[level];
+        int count = Math.min(Math.min(maxPoints, source.size), out.length);
+        int capacity = source.values.length;
+        int start = Math.floorMod(source.head - count, capacity);
+        int firstPart = Math.min(count, capacity - start);
+        System.arraycopy(source.values, start, out, 0, firstPart);
+        System.arraycopy(source.values, 0, out, firstPart, count - firstPart);
+        return count;
+    }
+
+    public long getBucketMillis(int level) {
+        return levels[level].bucketMillis;
+    }
+
+    public int getCapacity() {
+        return levels[0].values.length;
+    }
+
+    public Aggregation getAggregation() {
+        return aggregation;
+    }
+
+    // Cambia cada vez que se cierra un punto; sirve para no redibujar si no hay nada nuevo
+    public long getVersion() {
+        return version;
+    }
+}
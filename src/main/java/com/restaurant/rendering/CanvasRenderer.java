@@ -0,0 +1,148 @@
+package com.restaurant.rendering;
+
+import com.restaurant.domain.movement.SnapshotInterpolator;
+import com.restaurant.utils.ImageCache;
+import com.restaurant.utils.SpriteAtlas;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import java.util.Arrays;
+
+// Dibuja todos los sprites en un solo Canvas en lugar de mantener un nodo por agente en la escena.
+// Los sprites fijos guardan su posición; los que siguen a un agente toman la posición interpolada
+// del cuadro. Los que caen fuera del viewport no se dibujan. Corre en el hilo de JavaFX.
+public class CanvasRenderer {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final SnapshotInterpolator positions;
+    private double viewX;
+    private double viewY;
+
+    private Image[] images = new Image[INITIAL_CAPACITY];
+    private double[] sourceX = new double[INITIAL_CAPACITY];
+    private double[] sourceY = new double[INITIAL_CAPACITY];
+    private double[] sourceWidth = new double[INITIAL_CAPACITY];
+    private double[] sourceHeight = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private double[] height = new double[INITIAL_CAPACITY];
+    private double[] fixedX = new double[INITIAL_CAPACITY];
+    private double[] fixedY = new double[INITIAL_CAPACITY];
+    // -1 para sprites fijos
+    private int[] agents = new int[INITIAL_CAPACITY];
+    private boolean[] visible = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    private int drawnLastFrame;
+
+    public CanvasRenderer(SnapshotInterpolator positions, double viewportWidth, double viewportHeight) {
+        this.positions = positions;
+        this.canvas = new Canvas(viewportWidth, viewportHeight);
+        this.graphics = canvas.getGraphicsContext2D();
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    // Esquina superior izquierda del área visible, en coordenadas del mundo
+    public void setViewOrigin(double x, double y) {
+        this.viewX = x;
+        this.viewY = y;
+    }
+
+    public int addSprite(String path, double x, double y, double spriteWidth, double spriteHeight) {
+        if (size == images.length) {
+            grow(size * 2);
+        }
+        int sprite = size++;
+        fixedX[sprite] = x;
+        fixedY[sprite] = y;
+        width[sprite] = spriteWidth;
+        height[sprite] = spriteHeight;
+        agents[sprite] = -1;
+        visible[sprite] = true;
+        setSprite(sprite, path);
+        return sprite;
+    }
+
+    // A partir de ahora el sprite se dibuja donde esté el agente de MovementSystem
+    public void follow(int sprite, int agent) {
+        agents[sprite] = agent;
+    }
+
+    public void setSprite(int sprite, String path) {
+        SpriteAtlas atlas = ImageCache.getAtlas();
+        Rectangle2D region = atlas == null ? null : atlas.getRegion(path);
+        if (region == null) {
+            Image image = ImageCache.getImage(path);
+            images[sprite] = image;
+            sourceX[sprite] = 0;
+            sourceY[sprite] = 0;
+            sourceWidth[sprite] = image.getWidth();
+            sourceHeight[sprite] = image.getHeight();
+        } else {
+            images[sprite] = atlas.getTexture();
+            sourceX[sprite] = region.getMinX();
+            sourceY[sprite] = region.getMinY();
+            sourceWidth[sprite] = region.getWidth();
+            sourceHeight[sprite] = region.getHeight();
+        }
+    }
+
+    public void setVisible(int sprite, boolean isVisible) {
+        visible[sprite] = isVisible;
+    }
+
+    public void render() {
+        int agentCount = positions.getCount();
+        double viewWidth = canvas.getWidth();
+        double viewHeight = canvas.getHeight();
+        graphics.clearRect(0, 0, viewWidth, viewHeight);
+        int drawn = 0;
+        for (int sprite = 0; sprite < size; sprite++) {
+            if (!visible[sprite]) {
+                continue;
+            }
+            int agent = agents[sprite];
+            if (agent >= agentCount) {
+                continue;
+            }
+            double screenX = (agent == -1 ? fixedX[sprite] : positions.getX(agent)) - viewX;
+            double screenY = (agent == -1 ? fixedY[sprite] : positions.getY(agent)) - viewY;
+            if (screenX + width[sprite] < 0 || screenY + height[sprite] < 0
+                    || screenX > viewWidth || screenY > viewHeight) {
+                continue;
+            }
+            graphics.drawImage(images[sprite],
+                    sourceX[sprite], sourceY[sprite], sourceWidth[sprite], sourceHeight[sprite],
+                    screenX, screenY, width[sprite], height[sprite]);
+            drawn++;
+        }
+        drawnLastFrame = drawn;
+    }
+
+    public int getSpriteCount() {
+        return size;
+    }
+
+    public int getDrawnLastFrame() {
+        return drawnLastFrame;
+    }
+
+    private void grow(int capacity) {
+        images = Arrays.copyOf(images, capacity);
+        sourceX = Arrays.copyOf(sourceX, capacity);
+        sourceY = Arrays.copyOf(sourceY, capacity);
+        sourceWidth = Arrays.copyOf(sourceWidth, capacity);
+        sourceHeight = Arrays.copyOf(sourceHeight, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        fixedX = Arrays.copyOf(fixedX, capacity);
+        fixedY = Arrays.copyOf(fixedY, capacity);
+        agents = Arrays.copyOf(agents, capacity);
+        visible = Arrays.copyOf(visible, capacity);
+    }
+}
@@ -0,0 +1,20 @@
+package com.restaurant.rendering;
+
+import java.util.Locale;
+
+// NODES crea un ImageView por agente; CANVAS dibuja todos los sprites en un único Canvas por cuadro.
+public enum RenderMode {
+    NODES,
+    CANVAS;
+
+    public static final String PROPERTY = "restaurant.render";
+
+    public static RenderMode fromSystemProperties() {
+        String value = System.getProperty(PROPERTY, NODES.name());
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Modo de dibujo desconocido: " + value, e);
+        }
+    }
+}
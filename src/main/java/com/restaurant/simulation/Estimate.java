@@ -0,0 +1,57 @@
+package com.restaurant.simulation;
+
+// Media de una métrica entre réplicas con su intervalo de confianza del 95 % (t de Student).
+public class Estimate {
+    private static final double[] T_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private final double mean;
+    private final double halfWidth;
+
+    private Estimate(double mean, double halfWidth) {
+        this.mean = mean;
+        this.halfWidth = halfWidth;
+    }
+
+    public static Estimate of(double[] samples) {
+        int n = samples.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Se necesita al menos una réplica");
+        }
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        double mean = sum / n;
+        if (n == 1) {
+            return new Estimate(mean, Double.NaN);
+        }
+        double squares = 0;
+        for (double sample : samples) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        double standardError = Math.sqrt(squares / (n - 1) / n);
+        return new Estimate(mean, tQuantile(n - 1) * standardError);
+    }
+
+    private static double tQuantile(int degreesOfFreedom) {
+        if (degreesOfFreedom <= T_95.length) {
+            return T_95[degreesOfFreedom - 1];
+        }
+        // Aproximación con error menor a 0.005 para más de 30 grados de libertad
+        return 1.96 + 2.4 / degreesOfFreedom;
+    }
+
+    public double getMean() { return mean; }
+    public double getHalfWidth() { return halfWidth; }
+    public double getLower() { return mean - halfWidth; }
+    public double getUpper() { return mean + halfWidth; }
+
+    @Override
+    public String toString() {
+        return String.format("%.3f ± %.3f", mean, halfWidth);
+    }
+}
@@ -0,0 +1,75 @@
+package com.restaurant.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Corre todas las réplicas de todas las configuraciones en un ForkJoinPool. La réplica r usa la
+// semilla base + r en todas las configuraciones (números aleatorios comunes), de modo que las
+// diferencias entre configuraciones no se mezclan con ruido de muestreo distinto.
+public class ParameterSweep {
+    private final SweepConfig sweepConfig;
+
+    public ParameterSweep(SweepConfig sweepConfig) {
+        this.sweepConfig = sweepConfig;
+    }
+
+    public List<SweepResult> run() {
+        List<SimulationConfig> configurations = sweepConfig.configurations();
+        int replications = sweepConfig.getReplications();
+        SimulationReport[] reports = new SimulationReport[configurations.size() * replications];
+
+        ForkJoinPool pool = new ForkJoinPool(sweepConfig.getParallelism());
+        try {
+            pool.invoke(new ReplicationTask(configurations, replications, reports, 0, reports.length));
+        } finally {
+            pool.shutdown();
+        }
+
+        List<SweepResult> results = new ArrayList<>(configurations.size());
+        for (int i = 0; i < configurations.size(); i++) {
+            results.add(new SweepResult(
+                    configurations.get(i),
+                    Arrays.copyOfRange(reports, i * replications, (i + 1) * replications)
+            ));
+        }
+        return results;
+    }
+
+    // Serializable sólo por herencia de ForkJoinTask; las tareas nunca salen del pool
+    @SuppressWarnings("serial")
+    private static class ReplicationTask extends RecursiveAction {
+        private final List<SimulationConfig> configurations;
+        private final int replications;
+        private final SimulationReport[] reports;
+        private final int from;
+        private final int to;
+
+        ReplicationTask(List<SimulationConfig> configurations, int replications, SimulationReport[] reports,
+                        int from, int to) {
+            this.configurations = configurations;
+            this.replications = replications;
+            this.reports = reports;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            // Cada réplica ya es una tarea gruesa; se divide hasta llegar a una sola
+            if (to - from == 1) {
+                SimulationConfig template = configurations.get(from / replications);
+                SimulationConfig config = template.copy().seed(template.getSeed() + from % replications);
+                reports[from] = new RestaurantSimulation(config).run();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new ReplicationTask(configurations, replications, reports, from, middle),
+                    new ReplicationTask(configurations, replications, reports, middle, to)
+            );
+        }
+    }
+}
@@ -0,0 +1,515 @@
+package com.restaurant.simulation;
+
+import com.restaurant.config.GameConfig;
+import com.restaurant.domain.admission.AdmissionPolicy;
+import com.restaurant.domain.arrivals.ArrivalSource;
+import com.restaurant.domain.arrivals.ThinningArrivalSource;
+import com.restaurant.domain.arrivals.TraceArrivalSource;
+import com.restaurant.domain.kitchen.KitchenScheduler;
+import com.restaurant.domain.models.Order;
+import com.restaurant.domain.monitors.CustomerQueueMonitor;
+import com.restaurant.domain.monitors.OrderQueueMonitor;
+import com.restaurant.domain.monitors.RestaurantMonitor;
+import com.restaurant.domain.monitors.WaiterDispatcher;
+import com.restaurant.domain.monitors.WaiterWorkQueue;
+import com.restaurant.metrics.LatencyPhase;
+import com.restaurant.metrics.LatencyRecorder;
+import com.restaurant.metrics.MetricsRegistry;
+import com.restaurant.metrics.RestaurantMetrics;
+import com.restaurant.trace.TraceEventType;
+import com.restaurant.trace.TraceRecorder;
+import com.restaurant.utils.PoissonDistribution;
+import com.restaurant.utils.RandomStreams;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+
+public class RestaurantSimulation {
+    private static final double RECEPTION_X = GameConfig.RECEPTIONIST_X - GameConfig.SPRITE_SIZE * 2;
+    private static final double RECEPTION_Y = GameConfig.RECEPTIONIST_Y;
+    private static final double KITCHEN_PICKUP_X = GameConfig.KITCHEN_X - 50;
+    private static final double KITCHEN_PICKUP_Y = GameConfig.KITCHEN_Y;
+
+    private final SimulationConfig config;
+    private final SimulationEngine engine = new SimulationEngine();
+    private final RestaurantMonitor restaurantMonitor;
+    private final OrderQueueMonitor orderQueueMonitor;
+    private final CustomerQueueMonitor<SimulatedCustomer> customerQueueMonitor;
+    private final WaiterWorkQueue waiterWorkQueue = new WaiterWorkQueue();
+    private final LatencyRecorder latencyRecorder = new LatencyRecorder(1);
+    private final TraceRecorder traceRecorder;
+    private final PoissonDistribution poissonDistribution;
+    private final ArrivalSource arrivalSource;
+    private final SplittableRandom eatingTimes;
+    private final SplittableRandom preparationTimes;
+    private final AdmissionPolicy admissionPolicy;
+    private final SplittableRandom admissionDecisions;
+
+    private final Queue<SimulatedCustomer> waitingForTable = new ArrayDeque<>();
+    private final SimulatedCustomer[] seatedCustomers;
+    private final long[] orderSubmittedAt;
+    private final SimulatedWaiter[] waiters;
+    private final List<SimulatedWaiter> idleWaiters = new ArrayList<>();
+    private final boolean[] busyCooks;
+
+    private int customerIdCounter = 0;
+    private int orderIdCounter = 0;
+    private int customersArrived = 0;
+    private int customersServed = 0;
+    private int ordersCooked = 0;
+    private int maxWaitingForTable = 0;
+    private long totalTableWaitMillis = 0;
+    private long abandonedTableWaitMillis = 0;
+    private int customersBalked = 0;
+    private int customersReneged = 0;
+    private long totalFoodWaitMillis = 0;
+    private long totalOrderLatencyMillis = 0;
+    private long totalTimeInSystemMillis = 0;
+    private long totalWaiterWalkingMillis = 0;
+    private int occupiedTables = 0;
+    private long lastOccupancyChange = 0;
+    private double occupiedTableMillis = 0;
+
+    private static class SimulatedCustomer {
+        final int id;
+        final long arrivedAt;
+        long receptionAt;
+        long seatedAt;
+        long orderTakenAt;
+        long eatingStartedAt;
+        int tableNumber = -1;
+        SimulationEngine.ScheduledEvent patienceTimer;
+
+        SimulatedCustomer(int id, long arrivedAt) {
+            this.id = id;
+            this.arrivedAt = arrivedAt;
+        }
+    }
+
+    private class SimulatedWaiter implements WaiterDispatcher.Candidate {
+        final double restX;
+        final double restY;
+        double x;
+        double y;
+        boolean busy;
+        boolean atRest = true;
+        // Regreso al descanso interrumpible: mientras camina sigue disponible para nuevo trabajo
+        boolean returning;
+        double returnFromX;
+        double returnFromY;
+        long returnStartedAt;
+        long returnEndsAt;
+        int returnToken;
+
+        SimulatedWaiter(double restX, double restY) {
+            this.restX = restX;
+            this.restY = restY;
+            this.x = restX;
+            this.y = restY;
+        }
+
+        double returnProgress() {
+            long duration = returnEndsAt - returnStartedAt;
+            return duration == 0 ? 1.0 : (double) (engine.now() - returnStartedAt) / duration;
+        }
+
+        @Override
+        public double getCurrentX() {
+            return returning ? returnFromX + (restX - returnFromX) * returnProgress() : x;
+        }
+
+        @Override
+        public double getCurrentY() {
+            return returning ? returnFromY + (restY - returnFromY) * returnProgress() : y;
+        }
+    }
+
+    public RestaurantSimulation(SimulationConfig config) {
+        this.config = config;
+        this.traceRecorder = config.getTracePath() != null
+                ? TraceRecorder.open(config.getTracePath())
+                : TraceRecorder.disabled();
+        this.restaurantMonitor = new RestaurantMonitor(config.getTables());
+        this.orderQueueMonitor = new OrderQueueMonitor(
+                waiterWorkQueue,
+                new KitchenScheduler(config.getCooks(), config.getKitchenPolicy(), engine::now),
+                latencyRecorder,
+                traceRecorder
+        );
+        this.customerQueueMonitor = new CustomerQueueMonitor<>(waiterWorkQueue, engine::now);
+        RandomStreams randomStreams = new RandomStreams(config.getSeed());
+        this.poissonDistribution = new PoissonDistribution(config.getArrivalRate(), randomStreams.newStream());
+        this.eatingTimes = randomStreams.newStream();
+        this.preparationTimes = randomStreams.newStream();
+        this.arrivalSource = createArrivalSource(config, randomStreams);
+        this.admissionPolicy = config.getAdmissionPolicy();
+        this.admissionDecisions = randomStreams.newStream();
+        this.seatedCustomers = new SimulatedCustomer[config.getTables()];
+        this.orderSubmittedAt = new long[config.getTables()];
+        this.busyCooks = new boolean[config.getCooks()];
+        this.waiters = new SimulatedWaiter[config.getWaiters()];
+        for (int i = 0; i < waiters.length; i++) {
+            waiters[i] = new SimulatedWaiter(
+                    GameConfig.WAITER_X + GameConfig.SPRITE_SIZE,
+                    GameConfig.WAITER_Y - ((i + 1) * GameConfig.SPRITE_SIZE * 1.5)
+            );
+        }
+    }
+
+    // Sólo se publican los monitores, que son seguros entre hilos; el resto del estado lo toca
+    // únicamente el hilo que ejecuta run()
+    public void registerMetrics(MetricsRegistry registry) {
+        RestaurantMetrics.register(registry, restaurantMonitor);
+        RestaurantMetrics.register(registry, orderQueueMonitor);
+        RestaurantMetrics.register(registry, customerQueueMonitor);
+        RestaurantMetrics.register(registry, latencyRecorder);
+        RestaurantMetrics.register(registry, admissionPolicy);
+    }
+
+    public SimulationReport run() {
+        long start = System.nanoTime();
+        if (arrivalSource == null) {
+            engine.scheduleAt(0, this::generateArrivals);
+        } else {
+            scheduleNextArrival();
+        }
+        engine.run();
+        if (arrivalSource instanceof TraceArrivalSource trace) {
+            trace.close();
+        }
+        traceRecorder.close();
+        updateOccupancy(0);
+        long wallClockMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long simulated = engine.now();
+        return new SimulationReport(
+                simulated,
+                wallClockMillis,
+                engine.getProcessedEvents(),
+                customersArrived,
+                customersServed,
+                customersBalked,
+                customersReneged,
+                ordersCooked,
+                maxWaitingForTable,
+                // La corrida se vacía antes de terminar, así que la suma de esperas (incluidas las de quien
+                // abandonó la fila) es el área exacta bajo la curva de cada cola y dividirla entre el
+                // tiempo simulado da su longitud media
+                simulated == 0 ? 0 : (double) (totalTableWaitMillis + abandonedTableWaitMillis) / simulated,
+                simulated == 0 ? 0 : (double) totalFoodWaitMillis / simulated,
+                mean(totalTableWaitMillis, customersServed),
+                mean(totalFoodWaitMillis, customersServed),
+                mean(totalOrderLatencyMillis, ordersCooked),
+                mean(totalTimeInSystemMillis, customersServed),
+                totalWaiterWalkingMillis,
+                simulated == 0 ? 0 : occupiedTableMillis / ((double) simulated * config.getTables()),
+                latencyRecorder.snapshot()
+        );
+    }
+
+    private void generateArrivals() {
+        int numCustomers = poissonDistribution.nextInt();
+        for (int i = 0; i < numCustomers; i++) {
+            long delay = (long) (poissonDistribution.nextArrivalTime() * 1000);
+            engine.schedule(delay, this::customerArrives);
+        }
+        long next = engine.now() + config.getArrivalIntervalMillis();
+        if (next < config.getServiceDurationMillis()) {
+            engine.scheduleAt(next, this::generateArrivals);
+        }
+    }
+
+    // Sin traza ni perfil se conserva el generador original por intervalos y devuelve null
+    private static ArrivalSource createArrivalSource(SimulationConfig config, RandomStreams randomStreams) {
+        if (config.getArrivalTrace() != null) {
+            return TraceArrivalSource.open(config.getArrivalTrace());
+        }
+        if (config.getArrivalProfile() != null) {
+            return new ThinningArrivalSource(
+                    config.getArrivalProfile(), GameConfig.OPENING_TIME_MILLIS, randomStreams.newStream());
+        }
+        return null;
+    }
+
+    // Con perfil o traza cada llegada agenda la siguiente, así sólo hay un evento de llegada pendiente
+    private void scheduleNextArrival() {
+        long next = arrivalSource.nextArrival();
+        if (next < config.getServiceDurationMillis()) {
+            engine.scheduleAt(next, () -> {
+                customerArrives();
+                scheduleNextArrival();
+            });
+        }
+    }
+
+    private void customerArrives() {
+        SimulatedCustomer customer = new SimulatedCustomer(customerIdCounter++, engine.now());
+        customersArrived++;
+        traceRecorder.record(engine.now(), TraceEventType.CUSTOMER_SPAWNED, customer.id, -1, 0);
+        long walk = travelMillis(GameConfig.ENTRANCE_X, GameConfig.ENTRANCE_Y,
+                RECEPTION_X, RECEPTION_Y, GameConfig.CUSTOMER_SPEED);
+        engine.schedule(walk, () -> receiveCustomer(customer));
+    }
+
+    private void receiveCustomer(SimulatedCustomer customer) {
+        customer.receptionAt = engine.now();
+        int tableNumber = occupyAvailableTable();
+        if (tableNumber != -1) {
+            seatCustomer(customer, tableNumber);
+        } else if (!admissionPolicy.admits(waitingForTable.size(), admissionDecisions)) {
+            customersBalked++;
+            traceRecorder.record(engine.now(), TraceEventType.CUSTOMER_BALKED, customer.id, -1, 0);
+        } else {
+            waitingForTable.add(customer);
+            maxWaitingForTable = Math.max(maxWaitingForTable, waitingForTable.size());
+            if (admissionPolicy.hasPatienceLimit()) {
+                customer.patienceTimer = engine.schedule(admissionPolicy.drawPatience(admissionDecisions),
+                        () -> renege(customer));
+            }
+        }
+    }
+
+    private void renege(SimulatedCustomer customer) {
+        waitingForTable.remove(customer);
+        customersReneged++;
+        abandonedTableWaitMillis += engine.now() - customer.receptionAt;
+        traceRecorder.record(engine.now(), TraceEventType.CUSTOMER_RENEGED, customer.id, -1, 0);
+    }
+
+    private int occupyAvailableTable() {
+        int tableNumber = restaurantMonitor.tryAcquire();
+        if (tableNumber != -1) {
+            updateOccupancy(1);
+        }
+        return tableNumber;
+    }
+
+    private void seatCustomer(SimulatedCustomer customer, int tableNumber) {
+        if (customer.patienceTimer != null) {
+            customer.patienceTimer.cancel();
+        }
+        customer.tableNumber = tableNumber;
+        traceRecorder.record(engine.now(), TraceEventType.TABLE_ASSIGNED, customer.id, tableNumber, 0);
+        seatedCustomers[tableNumber] = customer;
+        totalTableWaitMillis += engine.now() - customer.receptionAt;
+        latencyRecorder.record(LatencyPhase.WAITING_FOR_TABLE, engine.now() - customer.receptionAt);
+
+        long walk = travelMillis(RECEPTION_X, RECEPTION_Y,
+                seatX(tableNumber), seatY(tableNumber), GameConfig.CUSTOMER_SPEED);
+        engine.schedule(walk, () -> {
+            customer.seatedAt = engine.now();
+            customerQueueMonitor.addCustomer(customer, tableNumber);
+            dispatchWaiters();
+        });
+    }
+
+    private void startEating(SimulatedCustomer customer) {
+        // Igual que el histograma, la espera de comida empieza al tomar la orden
+        long foodWait = engine.now() - customer.orderTakenAt;
+        totalFoodWaitMillis += foodWait;
+        latencyRecorder.record(LatencyPhase.WAITING_FOR_FOOD, foodWait);
+        customer.eatingStartedAt = engine.now();
+        long eatingTime = eatingTimes.nextLong(GameConfig.MIN_EATING_TIME, GameConfig.MAX_EATING_TIME);
+        engine.schedule(eatingTime, () -> finishEating(customer));
+    }
+
+    private void finishEating(SimulatedCustomer customer) {
+        int tableNumber = customer.tableNumber;
+        latencyRecorder.record(LatencyPhase.EATING, engine.now() - customer.eatingStartedAt);
+        restaurantMonitor.release(tableNumber);
+        traceRecorder.record(engine.now(), TraceEventType.TABLE_RELEASED, customer.id, tableNumber, 0);
+        seatedCustomers[tableNumber] = null;
+        updateOccupancy(-1);
+
+        while (!waitingForTable.isEmpty()) {
+            int freeTable = occupyAvailableTable();
+            if (freeTable == -1) {
+                break;
+            }
+            seatCustomer(waitingForTable.poll(), freeTable);
+        }
+
+        long walk = travelMillis(seatX(tableNumber), seatY(tableNumber),
+                GameConfig.ENTRANCE_X, GameConfig.ENTRANCE_Y, GameConfig.CUSTOMER_SPEED);
+        engine.schedule(walk, () -> {
+            customersServed++;
+            totalTimeInSystemMillis += engine.now() - customer.arrivedAt;
+            latencyRecorder.record(LatencyPhase.TIME_IN_RESTAURANT, engine.now() - customer.arrivedAt);
+        });
+    }
+
+    private void dispatchWaiters() {
+        idleWaiters.clear();
+        for (SimulatedWaiter waiter : waiters) {
+            if (!waiter.busy) {
+                idleWaiters.add(waiter);
+            }
+        }
+
+        WaiterWorkQueue.Work work;
+        while (!idleWaiters.isEmpty() && (work = waiterWorkQueue.poll()) != null) {
+            if (work.type == WaiterWorkQueue.WorkType.DELIVER_ORDER) {
+                Order readyOrder = orderQueueMonitor.takeAnyReadyOrder();
+                if (readyOrder != null) {
+                    deliverOrder(chooseWaiter(work), readyOrder);
+                }
+            } else {
+                CustomerQueueMonitor.CustomerRequest<SimulatedCustomer> request =
+                        customerQueueMonitor.pollNextCustomer();
+                if (request != null) {
+                    WaiterWorkQueue.Work located =
+                            new WaiterWorkQueue.Work(WaiterWorkQueue.WorkType.TAKE_ORDER, request.tableNumber);
+                    takeOrder(chooseWaiter(located), request.tableNumber);
+                }
+            }
+        }
+
+        for (SimulatedWaiter waiter : idleWaiters) {
+            if (!waiter.atRest && !waiter.returning) {
+                returnToRest(waiter);
+            }
+        }
+    }
+
+    private SimulatedWaiter chooseWaiter(WaiterWorkQueue.Work work) {
+        int index = config.isNearestWaiterDispatch()
+                ? WaiterDispatcher.selectNearest(idleWaiters, work, RestaurantSimulation::distanceSquaredToWork)
+                : 0;
+        SimulatedWaiter waiter = idleWaiters.remove(index);
+        stopReturning(waiter);
+        waiter.busy = true;
+        waiter.atRest = false;
+        return waiter;
+    }
+
+    private void returnToRest(SimulatedWaiter waiter) {
+        long walk = travelMillis(waiter.x, waiter.y, waiter.restX, waiter.restY, GameConfig.WAITER_SPEED);
+        waiter.returning = true;
+        waiter.returnFromX = waiter.x;
+        waiter.returnFromY = waiter.y;
+        waiter.returnStartedAt = engine.now();
+        waiter.returnEndsAt = engine.now() + walk;
+        int token = ++waiter.returnToken;
+        engine.schedule(walk, () -> {
+            if (waiter.returning && waiter.returnToken == token) {
+                waiter.returning = false;
+                waiter.atRest = true;
+                waiter.x = waiter.restX;
+                waiter.y = waiter.restY;
+                totalWaiterWalkingMillis += walk;
+            }
+        });
+    }
+
+    private void stopReturning(SimulatedWaiter waiter) {
+        if (waiter.returning) {
+            waiter.x = waiter.getCurrentX();
+            waiter.y = waiter.getCurrentY();
+            totalWaiterWalkingMillis += engine.now() - waiter.returnStartedAt;
+            waiter.returning = false;
+            waiter.returnToken++;
+        }
+    }
+
+    private void takeOrder(SimulatedWaiter waiter, int tableNumber) {
+        walk(waiter, seatX(tableNumber), seatY(tableNumber), () -> {
+            SimulatedCustomer customer = seatedCustomers[tableNumber];
+            customer.orderTakenAt = engine.now();
+            latencyRecorder.record(LatencyPhase.WAITING_FOR_WAITER, engine.now() - customer.seatedAt);
+            Order order = new Order(++orderIdCounter, tableNumber, preparationTimes);
+            traceRecorder.record(engine.now(), TraceEventType.ORDER_CREATED, order.getId(), tableNumber,
+                    order.getPreparationTime());
+            walk(waiter, KITCHEN_PICKUP_X, KITCHEN_PICKUP_Y, () -> {
+                orderSubmittedAt[tableNumber] = engine.now();
+                orderQueueMonitor.addOrder(order);
+                dispatchCooks();
+                releaseWaiter(waiter);
+            });
+        });
+    }
+
+    private void deliverOrder(SimulatedWaiter waiter, Order order) {
+        int tableNumber = order.getTableNumber();
+        walk(waiter, KITCHEN_PICKUP_X, KITCHEN_PICKUP_Y, () ->
+                walk(waiter, seatX(tableNumber), seatY(tableNumber), () -> {
+                    latencyRecorder.record(LatencyPhase.DELIVERY, engine.now() - order.getReadyAt());
+                    traceRecorder.record(engine.now(), TraceEventType.ORDER_DELIVERED, order.getId(), tableNumber, 0);
+                    orderQueueMonitor.markDelivered();
+                    SimulatedCustomer customer = seatedCustomers[tableNumber];
+                    if (customer != null) {
+                        startEating(customer);
+                    }
+                    releaseWaiter(waiter);
+                })
+        );
+    }
+
+    private void releaseWaiter(SimulatedWaiter waiter) {
+        waiter.busy = false;
+        dispatchWaiters();
+    }
+
+    private void walk(SimulatedWaiter waiter, double x, double y, Runnable onArrival) {
+        long walk = travelMillis(waiter.x, waiter.y, x, y, GameConfig.WAITER_SPEED);
+        totalWaiterWalkingMillis += walk;
+        engine.schedule(walk, () -> {
+            waiter.x = x;
+            waiter.y = y;
+            onArrival.run();
+        });
+    }
+
+    private void dispatchCooks() {
+        for (int i = 0; i < busyCooks.length; i++) {
+            if (busyCooks[i]) {
+                continue;
+            }
+            Order order = orderQueueMonitor.pollNextOrder(i);
+            if (order == null) {
+                return;
+            }
+            int cook = i;
+            busyCooks[cook] = true;
+            engine.schedule(order.getPreparationTime(), () -> {
+                orderQueueMonitor.markOrderAsReady(order);
+                ordersCooked++;
+                totalOrderLatencyMillis += engine.now() - orderSubmittedAt[order.getTableNumber()];
+                busyCooks[cook] = false;
+                dispatchCooks();
+                dispatchWaiters();
+            });
+        }
+    }
+
+    private void updateOccupancy(int delta) {
+        long now = engine.now();
+        occupiedTableMillis += (double) occupiedTables * (now - lastOccupancyChange);
+        lastOccupancyChange = now;
+        occupiedTables += delta;
+    }
+
+    private static long travelMillis(double fromX, double fromY, double toX, double toY, double speed) {
+        return (long) (Math.hypot(toX - fromX, toY - fromY) / speed * 1000);
+    }
+
+    private static double distanceSquaredToWork(WaiterWorkQueue.Work work, double fromX, double fromY) {
+        boolean delivery = work.type == WaiterWorkQueue.WorkType.DELIVER_ORDER;
+        double dx = (delivery ? KITCHEN_PICKUP_X : seatX(work.tableNumber)) - fromX;
+        double dy = (delivery ? KITCHEN_PICKUP_Y : seatY(work.tableNumber)) - fromY;
+        return dx * dx + dy * dy;
+    }
+
+    private static double seatX(int tableNumber) {
+        return GameConfig.TABLE_LAYOUT.seatX(tableNumber);
+    }
+
+    private static double seatY(int tableNumber) {
+        return GameConfig.TABLE_LAYOUT.seatY(tableNumber);
+    }
+
+    private static double mean(long total, int count) {
+        return count == 0 ? 0 : (double) total / count;
+    }
+}
@@ -0,0 +1,70 @@
+package com.restaurant.simulation;
+
+import com.restaurant.domain.arrivals.RateProfile;
+import com.restaurant.domain.kitchen.OrderSchedulingPolicy;
+import com.restaurant.metrics.MetricsRegistry;
+import com.restaurant.metrics.MetricsServer;
+import java.nio.file.Path;
+import java.util.Locale;
+
+public class SimulationApp {
+
+    public static void main(String[] args) {
+        SimulationConfig config = parseArgs(args);
+        RestaurantSimulation simulation = new RestaurantSimulation(config);
+        SimulationReport report = config.getMetricsPort() < 0 ? simulation.run() : runWithMetrics(simulation, config);
+        System.out.println(report);
+    }
+
+    private static SimulationReport runWithMetrics(RestaurantSimulation simulation, SimulationConfig config) {
+        MetricsRegistry registry = new MetricsRegistry();
+        simulation.registerMetrics(registry);
+        registry.registerMBeans();
+        try (MetricsServer server = MetricsServer.start(registry, config.getMetricsPort())) {
+            System.err.println("Métricas en http://127.0.0.1:" + server.getPort() + "/metrics");
+            return simulation.run();
+        } finally {
+            registry.unregisterMBeans();
+        }
+    }
+
+    static SimulationConfig parseArgs(String[] args) {
+        SimulationConfig config = SimulationConfig.defaults();
+        // El perfil escala la tasa base, así que se arma cuando ya se leyó --lambda
+        String profileName = null;
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            String value = parts[1];
+            switch (parts[0]) {
+                case "tables" -> config.tables(Integer.parseInt(value));
+                case "waiters" -> config.waiters(Integer.parseInt(value));
+                case "cooks" -> config.cooks(Integer.parseInt(value));
+                case "policy" -> config.kitchenPolicy(
+                        OrderSchedulingPolicy.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_')));
+                case "dispatch" -> config.nearestWaiterDispatch("nearest".equalsIgnoreCase(value));
+                case "lambda" -> config.arrivalRate(Double.parseDouble(value));
+                case "hours" -> config.serviceDurationMillis((long) (Double.parseDouble(value) * 3_600_000));
+                case "seed" -> config.seed(Long.parseLong(value));
+                case "trace" -> config.tracePath(Path.of(value));
+                case "arrivals" -> config.arrivalTrace(Path.of(value));
+                case "metrics-port" -> config.metricsPort(Integer.parseInt(value));
+                case "max-queue" -> config.admissionPolicy(
+                        config.getAdmissionPolicy().withMaxQueueLength(Integer.parseInt(value)));
+                case "balking" -> config.admissionPolicy(
+                        config.getAdmissionPolicy().withBalkingPerCustomer(Double.parseDouble(value)));
+                case "patience" -> config.admissionPolicy(config.getAdmissionPolicy()
+                        .withMeanPatienceMillis((long) (Double.parseDouble(value) * 1000)));
+                case "profile" -> profileName = value;
+                default -> throw new IllegalArgumentException("Argumento desconocido: " + parts[0]);
+            }
+        }
+        if (profileName != null) {
+            config.arrivalProfile(RateProfile.named(profileName,
+                    config.getArrivalRate() * 1000.0 / config.getArrivalIntervalMillis()));
+        }
+        return config;
+    }
+}
@@ -0,0 +1,148 @@
+package com.restaurant.simulation;
+
+import com.restaurant.config.GameConfig;
+import com.restaurant.domain.admission.AdmissionPolicy;
+import com.restaurant.domain.arrivals.RateProfile;
+import com.restaurant.domain.kitchen.OrderSchedulingPolicy;
+import java.nio.file.Path;
+
+public class SimulationConfig {
+    private int tables = GameConfig.TOTAL_TABLES;
+    private int waiters = GameConfig.TOTAL_WAITERS;
+    private int cooks = GameConfig.TOTAL_COOKS;
+    private OrderSchedulingPolicy kitchenPolicy = OrderSchedulingPolicy.FIFO;
+    private boolean nearestWaiterDispatch = true;
+    private double arrivalRate = GameConfig.ARRIVAL_RATE;
+    private long arrivalIntervalMillis = GameConfig.ARRIVAL_INTERVAL;
+    private long serviceDurationMillis = 12L * 60 * 60 * 1000;
+    private long seed = 42L;
+    private Path tracePath;
+    private RateProfile arrivalProfile;
+    private Path arrivalTrace;
+    private int metricsPort = -1;
+    private AdmissionPolicy admissionPolicy = AdmissionPolicy.unlimited();
+
+    public static SimulationConfig defaults() {
+        return new SimulationConfig();
+    }
+
+    public SimulationConfig copy() {
+        return defaults()
+                .tables(tables)
+                .waiters(waiters)
+                .cooks(cooks)
+                .kitchenPolicy(kitchenPolicy)
+                .nearestWaiterDispatch(nearestWaiterDispatch)
+                .arrivalRate(arrivalRate)
+                .arrivalIntervalMillis(arrivalIntervalMillis)
+                .serviceDurationMillis(serviceDurationMillis)
+                .seed(seed)
+                .tracePath(tracePath)
+                .arrivalProfile(arrivalProfile)
+                .arrivalTrace(arrivalTrace)
+                .metricsPort(metricsPort)
+                .admissionPolicy(admissionPolicy);
+    }
+
+    public SimulationConfig tables(int tables) {
+        if (tables <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos una mesa");
+        }
+        this.tables = tables;
+        return this;
+    }
+
+    public SimulationConfig waiters(int waiters) {
+        if (waiters <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos un mesero");
+        }
+        this.waiters = waiters;
+        return this;
+    }
+
+    public SimulationConfig cooks(int cooks) {
+        if (cooks <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos un cocinero");
+        }
+        this.cooks = cooks;
+        return this;
+    }
+
+    public SimulationConfig kitchenPolicy(OrderSchedulingPolicy kitchenPolicy) {
+        this.kitchenPolicy = kitchenPolicy;
+        return this;
+    }
+
+    public SimulationConfig nearestWaiterDispatch(boolean nearestWaiterDispatch) {
+        this.nearestWaiterDispatch = nearestWaiterDispatch;
+        return this;
+    }
+
+    public SimulationConfig arrivalRate(double arrivalRate) {
+        if (arrivalRate <= 0) {
+            throw new IllegalArgumentException("Lambda debe ser mayor que 0");
+        }
+        this.arrivalRate = arrivalRate;
+        return this;
+    }
+
+    public SimulationConfig arrivalIntervalMillis(long arrivalIntervalMillis) {
+        this.arrivalIntervalMillis = arrivalIntervalMillis;
+        return this;
+    }
+
+    public SimulationConfig serviceDurationMillis(long serviceDurationMillis) {
+        this.serviceDurationMillis = serviceDurationMillis;
+        return this;
+    }
+
+    public SimulationConfig seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    // Archivo de traza binaria; null desactiva la traza
+    public SimulationConfig tracePath(Path tracePath) {
+        this.tracePath = tracePath;
+        return this;
+    }
+
+    // Perfil de llegadas por hora del día; null usa arrivalRate clientes cada arrivalIntervalMillis
+    public SimulationConfig arrivalProfile(RateProfile arrivalProfile) {
+        this.arrivalProfile = arrivalProfile;
+        return this;
+    }
+
+    // Traza de llegadas registradas; si está presente tiene prioridad sobre el perfil y la tasa
+    public SimulationConfig arrivalTrace(Path arrivalTrace) {
+        this.arrivalTrace = arrivalTrace;
+        return this;
+    }
+
+    // Puerto local para /metrics mientras corre la simulación; negativo lo desactiva y 0 elige uno libre
+    public SimulationConfig metricsPort(int metricsPort) {
+        this.metricsPort = metricsPort;
+        return this;
+    }
+
+    // Fila máxima, probabilidad de desistir y paciencia de quien espera mesa; por omisión sin límites
+    public SimulationConfig admissionPolicy(AdmissionPolicy admissionPolicy) {
+        this.admissionPolicy = admissionPolicy;
+        return this;
+    }
+
+    public int getTables() { return tables; }
+    public int getWaiters() { return waiters; }
+    public int getCooks() { return cooks; }
+    public OrderSchedulingPolicy getKitchenPolicy() { return kitchenPolicy; }
+    public boolean isNearestWaiterDispatch() { return nearestWaiterDispatch; }
+    public double getArrivalRate() { return arrivalRate; }
+    public long getArrivalIntervalMillis() { return arrivalIntervalMillis; }
+    public long getServiceDurationMillis() { return serviceDurationMillis; }
+    public long getSeed() { return seed; }
+    public Path getTracePath() { return tracePath; }
+    public RateProfile getArrivalProfile() { return arrivalProfile; }
+    public Path getArrivalTrace() { return arrivalTrace; }
+    public int getMetricsPort() { return metricsPort; }
+    public AdmissionPolicy getAdmissionPolicy() { return admissionPolicy; }
+}
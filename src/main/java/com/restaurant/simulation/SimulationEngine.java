@@ -0,0 +1,83 @@
+package com.restaurant.simulation;
+
+import java.util.PriorityQueue;
+
+public class SimulationEngine {
+    private final PriorityQueue<ScheduledEvent> calendar = new PriorityQueue<>();
+    private long now;
+    private long sequence;
+    private long processedEvents;
+
+    // Un evento cancelado se descarta al llegar su turno sin avanzar el reloj ni contarse
+    public static final class ScheduledEvent implements Comparable<ScheduledEvent> {
+        final long time;
+        final long sequence;
+        final Runnable action;
+        boolean cancelled;
+
+        ScheduledEvent(long time, long sequence, Runnable action) {
+            this.time = time;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    public long now() {
+        return now;
+    }
+
+    public long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    public ScheduledEvent schedule(long delayMillis, Runnable action) {
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("El retraso no puede ser negativo: " + delayMillis);
+        }
+        return scheduleAt(now + delayMillis, action);
+    }
+
+    public ScheduledEvent scheduleAt(long timeMillis, Runnable action) {
+        if (timeMillis < now) {
+            throw new IllegalArgumentException("No se puede programar un evento en el pasado: " + timeMillis);
+        }
+        ScheduledEvent event = new ScheduledEvent(timeMillis, sequence++, action);
+        calendar.add(event);
+        return event;
+    }
+
+    private ScheduledEvent peekLive() {
+        ScheduledEvent event;
+        while ((event = calendar.peek()) != null && event.cancelled) {
+            calendar.poll();
+        }
+        return event;
+    }
+
+    public boolean step() {
+        if (peekLive() == null) {
+            return false;
+        }
+        ScheduledEvent event = calendar.poll();
+        now = event.time;
+        processedEvents++;
+        event.action.run();
+        return true;
+    }
+
+    public void run() {
+        while (step()) {
+            // el calendario se vacía cuando el modelo deja de programar eventos
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.restaurant.simulation;
+
+import com.restaurant.metrics.LatencyHistogram;
+import com.restaurant.metrics.LatencyPhase;
+import com.restaurant.metrics.LatencyRecorder;
+import java.util.Map;
+
+public class SimulationReport {
+    private final long simulatedMillis;
+    private final long wallClockMillis;
+    private final long processedEvents;
+    private final int customersArrived;
+    private final int customersServed;
+    private final int customersBalked;
+    private final int customersReneged;
+    private final int ordersCooked;
+    private final int maxWaitingForTable;
+    private final double meanWaitingForTable;
+    private final double meanWaitingForFood;
+    private final double meanTableWaitMillis;
+    private final double meanFoodWaitMillis;
+    private final double meanOrderLatencyMillis;
+    private final double meanTimeInSystemMillis;
+    private final long waiterWalkingMillis;
+    private final double tableUtilization;
+    private final Map<LatencyPhase, LatencyHistogram> latencies;
+
+    public SimulationReport(long simulatedMillis, long wallClockMillis, long processedEvents,
+                            int customersArrived, int customersServed, int customersBalked,
+                            int customersReneged, int ordersCooked,
+                            int maxWaitingForTable, double meanWaitingForTable, double meanWaitingForFood,
+                            double meanTableWaitMillis, double meanFoodWaitMillis,
+                            double meanOrderLatencyMillis, double meanTimeInSystemMillis, long waiterWalkingMillis,
+                            double tableUtilization, Map<LatencyPhase, LatencyHistogram> latencies) {
+        this.simulatedMillis = simulatedMillis;
+        this.wallClockMillis = wallClockMillis;
+        this.processedEvents = processedEvents;
+        this.customersArrived = customersArrived;
+        this.customersServed = customersServed;
+        this.customersBalked = customersBalked;
+        this.customersReneged = customersReneged;
+        this.ordersCooked = ordersCooked;
+        this.maxWaitingForTable = maxWaitingForTable;
+        this.meanWaitingForTable = meanWaitingForTable;
+        this.meanWaitingForFood = meanWaitingForFood;
+        this.meanTableWaitMillis = meanTableWaitMillis;
+        this.meanFoodWaitMillis = meanFoodWaitMillis;
+        this.meanOrderLatencyMillis = meanOrderLatencyMillis;
+        this.meanTimeInSystemMillis = meanTimeInSystemMillis;
+        this.waiterWalkingMillis = waiterWalkingMillis;
+        this.tableUtilization = tableUtilization;
+        this.latencies = latencies;
+    }
+
+    public long getSimulatedMillis() { return simulatedMillis; }
+    public long getWallClockMillis() { return wallClockMillis; }
+    public long getProcessedEvents() { return processedEvents; }
+    public int getCustomersArrived() { return customersArrived; }
+    public int getCustomersServed() { return customersServed; }
+    public int getCustomersBalked() { return customersBalked; }
+    public int getCustomersReneged() { return customersReneged; }
+    public int getCustomersLost() { return customersBalked + customersReneged; }
+    // Fracción de las llegadas que se fue sin comer: la venta que se perdió por falta de mesa
+    public double getLostFraction() {
+        return customersArrived == 0 ? 0 : (double) getCustomersLost() / customersArrived;
+    }
+    public int getOrdersCooked() { return ordersCooked; }
+    public int getMaxWaitingForTable() { return maxWaitingForTable; }
+    public double getMeanWaitingForTable() { return meanWaitingForTable; }
+    public double getMeanWaitingForFood() { return meanWaitingForFood; }
+    public double getMeanTableWaitMillis() { return meanTableWaitMillis; }
+    public double getMeanFoodWaitMillis() { return meanFoodWaitMillis; }
+    public double getMeanOrderLatencyMillis() { return meanOrderLatencyMillis; }
+    public double getMeanTimeInSystemMillis() { return meanTimeInSystemMillis; }
+    public long getWaiterWalkingMillis() { return waiterWalkingMillis; }
+    public double getTableUtilization() { return tableUtilization; }
+    public LatencyHistogram getLatency(LatencyPhase phase) { return latencies.get(phase); }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Tiempo simulado: %.1f min (%d ms reales, %d eventos)%n" +
+                "Clientes: %d llegaron, %d atendidos%n" +
+                "Clientes perdidos: %d desistieron, %d abandonaron la fila (%.1f %%)%n" +
+                "Órdenes cocinadas: %d%n" +
+                "Esperando mesa: %.2f en promedio, %d máx.%n" +
+                "Esperando comida: %.2f en promedio%n" +
+                "Espera media por mesa: %.1f s%n" +
+                "Espera media por comida: %.1f s%n" +
+                "Latencia media de cocina: %.1f s%n" +
+                "Tiempo medio en el restaurante: %.1f s%n" +
+                "Caminata total de meseros: %.1f min%n" +
+                "Utilización de mesas: %.1f %%%n" +
+                "%s",
+                simulatedMillis / 60000.0, wallClockMillis, processedEvents,
+                customersArrived, customersServed,
+                customersBalked, customersReneged, getLostFraction() * 100.0,
+                ordersCooked,
+                meanWaitingForTable, maxWaitingForTable,
+                meanWaitingForFood,
+                meanTableWaitMillis / 1000.0,
+                meanFoodWaitMillis / 1000.0,
+                meanOrderLatencyMillis / 1000.0,
+                meanTimeInSystemMillis / 1000.0,
+                waiterWalkingMillis / 60000.0,
+                tableUtilization * 100.0,
+                LatencyRecorder.format(latencies)
+        );
+    }
+}
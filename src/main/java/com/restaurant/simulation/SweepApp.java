@@ -0,0 +1,105 @@
+package com.restaurant.simulation;
+
+import com.restaurant.domain.kitchen.OrderSchedulingPolicy;
+import java.util.List;
+import java.util.Locale;
+
+// Imprime en CSV una fila por configuración con la media y la semiamplitud del IC 95 % de cada métrica.
+// Rangos como --tables=5:20:5 (desde:hasta:paso); un solo valor fija el parámetro.
+public class SweepApp {
+
+    public static void main(String[] args) {
+        SweepConfig sweepConfig = parseArgs(args);
+        long start = System.nanoTime();
+        List<SweepResult> results = new ParameterSweep(sweepConfig).run();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("mesas,meseros,cocineros,lambda,replicas,"
+                + "cola_mesa,cola_mesa_ic,cola_mesa_max,cola_mesa_max_ic,cola_comida,cola_comida_ic,"
+                + "espera_mesa_s,espera_mesa_ic,espera_comida_s,espera_comida_ic,"
+                + "tiempo_sistema_s,tiempo_sistema_ic,utilizacion,utilizacion_ic,perdidos,perdidos_ic");
+        for (SweepResult result : results) {
+            SimulationConfig config = result.getConfig();
+            System.out.println(String.format(Locale.ROOT,
+                    "%d,%d,%d,%.3f,%d,%s,%s,%s,%s,%s,%s,%s,%s",
+                    config.getTables(), config.getWaiters(), config.getCooks(), config.getArrivalRate(),
+                    result.getReplications(),
+                    csv(result.getMeanWaitingForTable(), 1),
+                    csv(result.getMaxWaitingForTable(), 1),
+                    csv(result.getMeanWaitingForFood(), 1),
+                    csv(result.getMeanTableWaitMillis(), 1000),
+                    csv(result.getMeanFoodWaitMillis(), 1000),
+                    csv(result.getMeanTimeInSystemMillis(), 1000),
+                    csv(result.getTableUtilization(), 1),
+                    csv(result.getLostFraction(), 1)
+            ));
+        }
+        System.err.printf("%d configuraciones x %d réplicas en %.1f s%n",
+                results.size(), sweepConfig.getReplications(), elapsed / 1000.0);
+    }
+
+    private static String csv(Estimate estimate, double scale) {
+        return String.format(Locale.ROOT, "%.4f,%.4f", estimate.getMean() / scale, estimate.getHalfWidth() / scale);
+    }
+
+    static SweepConfig parseArgs(String[] args) {
+        SweepConfig sweepConfig = SweepConfig.defaults();
+        SimulationConfig base = SimulationConfig.defaults();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            String value = parts[1];
+            switch (parts[0]) {
+                case "tables" -> {
+                    int[] range = intRange(value);
+                    sweepConfig.tables(range[0], range[1], range[2]);
+                }
+                case "waiters" -> {
+                    int[] range = intRange(value);
+                    sweepConfig.waiters(range[0], range[1], range[2]);
+                }
+                case "cooks" -> {
+                    int[] range = intRange(value);
+                    sweepConfig.cooks(range[0], range[1], range[2]);
+                }
+                case "lambda" -> {
+                    double[] range = doubleRange(value);
+                    sweepConfig.arrivalRates(range[0], range[1], range[2]);
+                }
+                case "replications" -> sweepConfig.replications(Integer.parseInt(value));
+                case "threads" -> sweepConfig.parallelism(Integer.parseInt(value));
+                case "hours" -> base.serviceDurationMillis((long) (Double.parseDouble(value) * 3_600_000));
+                case "seed" -> base.seed(Long.parseLong(value));
+                case "policy" -> base.kitchenPolicy(
+                        OrderSchedulingPolicy.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_')));
+                case "dispatch" -> base.nearestWaiterDispatch("nearest".equalsIgnoreCase(value));
+                case "max-queue" -> base.admissionPolicy(
+                        base.getAdmissionPolicy().withMaxQueueLength(Integer.parseInt(value)));
+                case "balking" -> base.admissionPolicy(
+                        base.getAdmissionPolicy().withBalkingPerCustomer(Double.parseDouble(value)));
+                case "patience" -> base.admissionPolicy(base.getAdmissionPolicy()
+                        .withMeanPatienceMillis((long) (Double.parseDouble(value) * 1000)));
+                default -> throw new IllegalArgumentException("Argumento desconocido: " + parts[0]);
+            }
+        }
+        return sweepConfig.base(base);
+    }
+
+    private static int[] intRange(String value) {
+        double[] range = doubleRange(value);
+        return new int[]{(int) range[0], (int) range[1], (int) range[2]};
+    }
+
+    private static double[] doubleRange(String value) {
+        String[] parts = value.split(":");
+        double from = Double.parseDouble(parts[0]);
+        double to = parts.length > 1 ? Double.parseDouble(parts[1]) : from;
+        double step = parts.length > 2 ? Double.parseDouble(parts[2]) : 1;
+        if (parts.length > 3) {
+            throw new IllegalArgumentException("Rango inválido: " + value);
+        }
+        return new double[]{from, to, step};
+    }
+}
@@ -0,0 +1,98 @@
+package com.restaurant.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Rangos de parámetros a combinar en un barrido; el resto de la configuración sale de la base.
+public class SweepConfig {
+    private int[] tables = {SimulationConfig.defaults().getTables()};
+    private int[] waiters = {SimulationConfig.defaults().getWaiters()};
+    private int[] cooks = {SimulationConfig.defaults().getCooks()};
+    private double[] arrivalRates = {SimulationConfig.defaults().getArrivalRate()};
+    private int replications = 10;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private SimulationConfig base = SimulationConfig.defaults();
+
+    public static SweepConfig defaults() {
+        return new SweepConfig();
+    }
+
+    public SweepConfig tables(int from, int to, int step) {
+        this.tables = range(from, to, step, "mesas");
+        return this;
+    }
+
+    public SweepConfig waiters(int from, int to, int step) {
+        this.waiters = range(from, to, step, "meseros");
+        return this;
+    }
+
+    public SweepConfig cooks(int from, int to, int step) {
+        this.cooks = range(from, to, step, "cocineros");
+        return this;
+    }
+
+    public SweepConfig arrivalRates(double from, double to, double step) {
+        if (from <= 0 || to < from || step <= 0) {
+            throw new IllegalArgumentException("Rango inválido para lambda: " + from + ".." + to + " paso " + step);
+        }
+        int count = (int) Math.floor((to - from) / step + 1e-9) + 1;
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = from + i * step;
+        }
+        this.arrivalRates = values;
+        return this;
+    }
+
+    public SweepConfig replications(int replications) {
+        if (replications <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos una réplica");
+        }
+        this.replications = replications;
+        return this;
+    }
+
+    public SweepConfig parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser mayor que 0");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public SweepConfig base(SimulationConfig base) {
+        this.base = base;
+        return this;
+    }
+
+    // Una configuración por combinación; la semilla de la base es la de la primera réplica
+    public List<SimulationConfig> configurations() {
+        List<SimulationConfig> configurations = new ArrayList<>();
+        for (int t : tables) {
+            for (int w : waiters) {
+                for (int c : cooks) {
+                    for (double lambda : arrivalRates) {
+                        configurations.add(base.copy().tables(t).waiters(w).cooks(c).arrivalRate(lambda));
+                    }
+                }
+            }
+        }
+        return configurations;
+    }
+
+    public int getReplications() { return replications; }
+    public int getParallelism() { return parallelism; }
+    public SimulationConfig getBase() { return base; }
+
+    private static int[] range(int from, int to, int step, String name) {
+        if (from <= 0 || to < from || step <= 0) {
+            throw new IllegalArgumentException("Rango inválido para " + name + ": " + from + ".." + to + " paso " + step);
+        }
+        int[] values = new int[(to - from) / step + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,48 @@
+package com.restaurant.simulation;
+
+import java.util.function.ToDoubleFunction;
+
+public class SweepResult {
+    private final SimulationConfig config;
+    private final int replications;
+    private final Estimate meanWaitingForTable;
+    private final Estimate maxWaitingForTable;
+    private final Estimate meanWaitingForFood;
+    private final Estimate meanTableWaitMillis;
+    private final Estimate meanFoodWaitMillis;
+    private final Estimate meanTimeInSystemMillis;
+    private final Estimate tableUtilization;
+    private final Estimate lostFraction;
+
+    SweepResult(SimulationConfig config, SimulationReport[] reports) {
+        this.config = config;
+        this.replications = reports.length;
+        this.meanWaitingForTable = estimate(reports, SimulationReport::getMeanWaitingForTable);
+        this.maxWaitingForTable = estimate(reports, SimulationReport::getMaxWaitingForTable);
+        this.meanWaitingForFood = estimate(reports, SimulationReport::getMeanWaitingForFood);
+        this.meanTableWaitMillis = estimate(reports, SimulationReport::getMeanTableWaitMillis);
+        this.meanFoodWaitMillis = estimate(reports, SimulationReport::getMeanFoodWaitMillis);
+        this.meanTimeInSystemMillis = estimate(reports, SimulationReport::getMeanTimeInSystemMillis);
+        this.tableUtilization = estimate(reports, SimulationReport::getTableUtilization);
+        this.lostFraction = estimate(reports, SimulationReport::getLostFraction);
+    }
+
+    private static Estimate estimate(SimulationReport[] reports, ToDoubleFunction<SimulationReport> metric) {
+        double[] samples = new double[reports.length];
+        for (int i = 0; i < reports.length; i++) {
+            samples[i] = metric.applyAsDouble(reports[i]);
+        }
+        return Estimate.of(samples);
+    }
+
+    public SimulationConfig getConfig() { return config; }
+    public int getReplications() { return replications; }
+    public Estimate getMeanWaitingForTable() { return meanWaitingForTable; }
+    public Estimate getMaxWaitingForTable() { return maxWaitingForTable; }
+    public Estimate getMeanWaitingForFood() { return meanWaitingForFood; }
+    public Estimate getMeanTableWaitMillis() { return meanTableWaitMillis; }
+    public Estimate getMeanFoodWaitMillis() { return meanFoodWaitMillis; }
+    public Estimate getMeanTimeInSystemMillis() { return meanTimeInSystemMillis; }
+    public Estimate getTableUtilization() { return tableUtilization; }
+    public Estimate getLostFraction() { return lostFraction; }
+}
@@ -0,0 +1,28 @@
+package com.restaurant.trace;
+
+public class TraceEvent {
+    private final long time;
+    private final TraceEventType type;
+    private final int id;
+    private final int tableNumber;
+    private final long value;
+
+    public TraceEvent(long time, TraceEventType type, int id, int tableNumber, long value) {
+        this.time = time;
+        this.type = type;
+        this.id = id;
+        this.tableNumber = tableNumber;
+        this.value = value;
+    }
+
+    public long getTime() { return time; }
+    public TraceEventType getType() { return type; }
+    public int getId() { return id; }
+    public int getTableNumber() { return tableNumber; }
+    public long getValue() { return value; }
+
+    @Override
+    public String toString() {
+        return String.format("%d %s id=%d mesa=%d valor=%d", time, type, id, tableNumber, value);
+    }
+}
@@ -0,0 +1,38 @@
+package com.restaurant.trace;
+
+// El código se guarda en el archivo; cero queda reservado para marcar el final de una traza truncada.
+public enum TraceEventType {
+    CUSTOMER_SPAWNED(1),
+    TABLE_ASSIGNED(2),
+    ORDER_CREATED(3),
+    ORDER_READY(4),
+    ORDER_DELIVERED(5),
+    TABLE_RELEASED(6),
+    CUSTOMER_BALKED(7),
+    CUSTOMER_RENEGED(8);
+
+    private static final TraceEventType[] BY_CODE = new TraceEventType[values().length + 1];
+
+    static {
+        for (TraceEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    TraceEventType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static TraceEventType fromCode(int code) {
+        if (code <= 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Tipo de evento desconocido: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
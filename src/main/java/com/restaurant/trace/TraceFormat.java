@@ -0,0 +1,25 @@
+package com.restaurant.trace;
+
+// Encabezado de 32 bytes seguido de registros de tamaño fijo:
+// tiempo (8) | tipo (4) | id (4) | mesa (4) | relleno (4) | valor (8)
+final class TraceFormat {
+    static final int MAGIC = 0x52545243; // "RTRC"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int RECORD_SIZE_OFFSET = 8;
+    static final int COUNT_OFFSET = 16;
+    static final int DROPPED_OFFSET = 24;
+
+    static final int TIME_OFFSET = 0;
+    static final int TYPE_OFFSET = 8;
+    static final int ID_OFFSET = 12;
+    static final int TABLE_OFFSET = 16;
+    static final int VALUE_OFFSET = 24;
+
+    private TraceFormat() {
+    }
+}
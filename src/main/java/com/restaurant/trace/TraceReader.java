@@ -0,0 +1,75 @@
+package com.restaurant.trace;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+public class TraceReader {
+    private final Path path;
+    private long recordedCount;
+    private long dropped;
+
+    public TraceReader(Path path) {
+        this.path = path;
+    }
+
+    // Recorre los eventos en orden de escritura. Una traza cerrada trae en el encabezado cuántos registros
+    // tiene; una que no se cerró termina en el primer registro vacío.
+    public long forEach(Consumer<TraceEvent> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < TraceFormat.HEADER_SIZE) {
+                throw new IOException("Archivo de traza incompleto: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, TraceFormat.HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(TraceFormat.MAGIC_OFFSET) != TraceFormat.MAGIC
+                    || header.getInt(TraceFormat.VERSION_OFFSET) != TraceFormat.VERSION
+                    || header.getInt(TraceFormat.RECORD_SIZE_OFFSET) != TraceFormat.RECORD_SIZE) {
+                throw new IOException("No es una traza del restaurante: " + path);
+            }
+            recordedCount = header.getLong(TraceFormat.COUNT_OFFSET);
+            dropped = header.getLong(TraceFormat.DROPPED_OFFSET);
+            long end = size;
+            if (recordedCount > 0) {
+                end = TraceFormat.HEADER_SIZE + recordedCount * TraceFormat.RECORD_SIZE;
+                if (end > size) {
+                    throw new IOException("La traza declara " + recordedCount + " registros pero está recortada: " + path);
+                }
+            }
+
+            long events = 0;
+            long position = TraceFormat.HEADER_SIZE;
+            while (position + TraceFormat.RECORD_SIZE <= end) {
+                long length = Math.min(Integer.MAX_VALUE - TraceFormat.RECORD_SIZE, end - position);
+                length -= length % TraceFormat.RECORD_SIZE;
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                chunk.order(ByteOrder.LITTLE_ENDIAN);
+                for (int offset = 0; offset < length; offset += TraceFormat.RECORD_SIZE) {
+                    int type = chunk.getInt(offset + TraceFormat.TYPE_OFFSET);
+                    if (type == 0) {
+                        return events;
+                    }
+                    consumer.accept(new TraceEvent(
+                            chunk.getLong(offset + TraceFormat.TIME_OFFSET),
+                            TraceEventType.fromCode(type),
+                            chunk.getInt(offset + TraceFormat.ID_OFFSET),
+                            chunk.getInt(offset + TraceFormat.TABLE_OFFSET),
+                            chunk.getLong(offset + TraceFormat.VALUE_OFFSET)
+                    ));
+                    events++;
+                }
+                position += length;
+            }
+            return events;
+        }
+    }
+
+    // Valores del encabezado; quedan en cero si la traza no se cerró
+    public long getRecordedCount() { return recordedCount; }
+    public long getDropped() { return dropped; }
+}
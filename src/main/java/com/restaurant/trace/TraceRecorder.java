@@ -0,0 +1,167 @@
+package com.restaurant.trace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+// Registra transiciones del dominio en un archivo mapeado en memoria. Los agentes sólo escriben en
+// el anillo; un hilo propio copia los registros al mapeo, que crece por regiones. Al cerrar se anota
+// en el encabezado cuántos registros hay; el archivo no se recorta porque el mapeo sigue vivo. Si el
+// proceso muere, lo ya copiado queda en el archivo y TraceReader lo lee hasta el primer registro vacío.
+public class TraceRecorder implements AutoCloseable {
+    public static final String PATH_PROPERTY = "restaurant.trace";
+
+    private static final int RING_CAPACITY = 1 << 16;
+    private static final long REGION_SIZE = 16L * 1024 * 1024;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final TraceRecorder DISABLED = new TraceRecorder();
+    private static volatile TraceRecorder global = DISABLED;
+
+    private final boolean enabled;
+    private final TraceRingBuffer ring;
+    private final FileChannel channel;
+    private final Thread writerThread;
+    private final TraceRingBuffer.Sink sink = this::write;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long written;
+    private volatile boolean closed;
+    private volatile LongSupplier clock = System::currentTimeMillis;
+
+    private TraceRecorder() {
+        enabled = false;
+        ring = null;
+        channel = null;
+        writerThread = null;
+    }
+
+    private TraceRecorder(Path path) throws IOException {
+        enabled = true;
+        ring = new TraceRingBuffer(RING_CAPACITY);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mapRegion(0);
+        region.putInt(TraceFormat.MAGIC_OFFSET, TraceFormat.MAGIC);
+        region.putInt(TraceFormat.VERSION_OFFSET, TraceFormat.VERSION);
+        region.putInt(TraceFormat.RECORD_SIZE_OFFSET, TraceFormat.RECORD_SIZE);
+        region.position(TraceFormat.HEADER_SIZE);
+        writerThread = Thread.ofPlatform().name("trace-writer").daemon(true).unstarted(this::writeLoop);
+        writerThread.start();
+    }
+
+    public static TraceRecorder open(Path path) {
+        try {
+            return new TraceRecorder(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir la traza " + path, e);
+        }
+    }
+
+    public static TraceRecorder disabled() {
+        return DISABLED;
+    }
+
+    // -Drestaurant.trace=<archivo>; sin la propiedad la traza queda desactivada
+    public static TraceRecorder fromSystemProperties() {
+        String value = System.getProperty(PATH_PROPERTY);
+        TraceRecorder recorder = value == null ? DISABLED : open(Path.of(value));
+        global = recorder;
+        return recorder;
+    }
+
+    // Recorder compartido por las entidades del juego
+    public static TraceRecorder global() {
+        return global;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Marca de tiempo para record(type, id, tableNumber); el juego la toma del reloj de simulación
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public void record(TraceEventType type, int id, int tableNumber) {
+        record(clock.getAsLong(), type, id, tableNumber, 0);
+    }
+
+    // Después de close() el anillo rechaza el evento y lo cuenta como descartado
+    public void record(long time, TraceEventType type, int id, int tableNumber, long value) {
+        if (enabled) {
+            ring.offer(time, type.getCode(), id, tableNumber, value);
+        }
+    }
+
+    public long getDropped() {
+        return enabled ? ring.getDropped() : 0;
+    }
+
+    private void writeLoop() {
+        while (!closed) {
+            if (ring.drain(sink) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void write(long time, int type, int id, int tableNumber, long value) {
+        if (!region.hasRemaining()) {
+            mapRegion(regionStart + REGION_SIZE);
+        }
+        int offset = region.position();
+        region.putLong(offset + TraceFormat.TIME_OFFSET, time);
+        region.putInt(offset + TraceFormat.TYPE_OFFSET, type);
+        region.putInt(offset + TraceFormat.ID_OFFSET, id);
+        region.putInt(offset + TraceFormat.TABLE_OFFSET, tableNumber);
+        region.putLong(offset + TraceFormat.VALUE_OFFSET, value);
+        region.position(offset + TraceFormat.RECORD_SIZE);
+        written++;
+    }
+
+    private void mapRegion(long start) {
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, start, REGION_SIZE);
+            region.order(ByteOrder.LITTLE_ENDIAN);
+            regionStart = start;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo extender la traza", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!enabled || closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writerThread.join();
+            // Los productores que reservaron ranura antes del cierre terminan de publicarla enseguida
+            long reserved = ring.close();
+            while (ring.getTail() < reserved) {
+                if (ring.drain(sink) == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+            region.force();
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, TraceFormat.HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(TraceFormat.COUNT_OFFSET, written);
+            header.putLong(TraceFormat.DROPPED_OFFSET, ring.getDropped());
+            header.force();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cerrar la traza", e);
+        }
+    }
+}
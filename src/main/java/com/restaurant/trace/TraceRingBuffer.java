@@ -0,0 +1,91 @@
+package com.restaurant.trace;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Anillo de varios productores y un solo consumidor. Cada productor reserva una ranura con CAS,
+// escribe los campos y la publica con una escritura release; el consumidor sólo avanza sobre
+// ranuras publicadas. Si el anillo está lleno o cerrado el evento se descarta y se cuenta, nunca se
+// bloquea.
+class TraceRingBuffer {
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final int mask;
+    private final long[] times;
+    private final int[] types;
+    private final int[] ids;
+    private final int[] tables;
+    private final long[] values;
+    private final AtomicLongArray published;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long tail;
+
+    interface Sink {
+        void accept(long time, int type, int id, int tableNumber, long value);
+    }
+
+    TraceRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser potencia de dos: " + capacity);
+        }
+        mask = capacity - 1;
+        times = new long[capacity];
+        types = new int[capacity];
+        ids = new int[capacity];
+        tables = new int[capacity];
+        values = new long[capacity];
+        published = new AtomicLongArray(capacity);
+    }
+
+    boolean offer(long time, int type, int id, int tableNumber, long value) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence == CLOSED || sequence - tail > mask) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & mask;
+        times[slot] = time;
+        types[slot] = type;
+        ids[slot] = id;
+        tables[slot] = tableNumber;
+        values[slot] = value;
+        published.setRelease(slot, sequence + 1);
+        return true;
+    }
+
+    // Sólo lo llama el hilo consumidor
+    int drain(Sink sink) {
+        long next = tail;
+        int drained = 0;
+        while (true) {
+            int slot = (int) next & mask;
+            if (published.getAcquire(slot) != next + 1) {
+                break;
+            }
+            sink.accept(times[slot], types[slot], ids[slot], tables[slot], values[slot]);
+            next++;
+            drained++;
+        }
+        tail = next;
+        return drained;
+    }
+
+    // Deja de aceptar eventos y devuelve cuántos se reservaron; el consumidor debe vaciar hasta ahí
+    long close() {
+        return head.getAndSet(CLOSED);
+    }
+
+    // Sólo lo llama el hilo consumidor
+    long getTail() {
+        return tail;
+    }
+
+    long getDropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,77 @@
+package com.restaurant.trace;
+
+import com.restaurant.metrics.LatencyHistogram;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// Uso: TraceTool <archivo> [--dump]
+// Sin --dump resume la traza: eventos por tipo, duración y latencias reconstruidas a partir de ella.
+public class TraceTool {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: TraceTool <archivo> [--dump]");
+            return;
+        }
+        TraceReader reader = new TraceReader(Path.of(args[0]));
+        if (args.length > 1 && "--dump".equals(args[1])) {
+            reader.forEach(System.out::println);
+            return;
+        }
+
+        Map<TraceEventType, Long> counts = new EnumMap<>(TraceEventType.class);
+        Map<Integer, Long> createdAt = new HashMap<>();
+        Map<Integer, Long> readyAt = new HashMap<>();
+        Map<Integer, Long> seatedAt = new HashMap<>();
+        LatencyHistogram orderToReady = new LatencyHistogram();
+        LatencyHistogram readyToDelivered = new LatencyHistogram();
+        LatencyHistogram tableOccupancy = new LatencyHistogram();
+        long[] span = {Long.MAX_VALUE, Long.MIN_VALUE};
+
+        long events = reader.forEach(event -> {
+            counts.merge(event.getType(), 1L, Long::sum);
+            span[0] = Math.min(span[0], event.getTime());
+            span[1] = Math.max(span[1], event.getTime());
+            switch (event.getType()) {
+                case ORDER_CREATED -> createdAt.put(event.getId(), event.getTime());
+                case ORDER_READY -> {
+                    Long created = createdAt.remove(event.getId());
+                    if (created != null) {
+                        orderToReady.record(event.getTime() - created);
+                    }
+                    readyAt.put(event.getId(), event.getTime());
+                }
+                case ORDER_DELIVERED -> {
+                    Long ready = readyAt.remove(event.getId());
+                    if (ready != null) {
+                        readyToDelivered.record(event.getTime() - ready);
+                    }
+                }
+                case TABLE_ASSIGNED -> seatedAt.put(event.getTableNumber(), event.getTime());
+                case TABLE_RELEASED -> {
+                    Long seated = seatedAt.remove(event.getTableNumber());
+                    if (seated != null) {
+                        tableOccupancy.record(event.getTime() - seated);
+                    }
+                }
+                default -> {
+                }
+            }
+        });
+
+        System.out.printf("Eventos: %d (encabezado: %d, descartados: %d)%n",
+                events, reader.getRecordedCount(), reader.getDropped());
+        if (events > 0) {
+            System.out.printf("Duración: %.1f s%n", (span[1] - span[0]) / 1000.0);
+        }
+        counts.forEach((type, count) -> System.out.printf("  %-16s %d%n", type, count));
+        System.out.println("Orden creada -> lista (ms):   " + orderToReady);
+        System.out.println("Orden lista -> entregada (ms): " + readyToDelivered);
+        System.out.println("Mesa ocupada (ms):            " + tableOccupancy);
+        System.out.printf("Órdenes sin terminar: %d creadas, %d listas sin entregar%n",
+                createdAt.size(), readyAt.size());
+    }
+}
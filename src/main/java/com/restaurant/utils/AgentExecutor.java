@@ -0,0 +1,53 @@
+package com.restaurant.utils;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class AgentExecutor {
+    public static final String MODE_PROPERTY = "restaurant.threads";
+
+    private final Mode mode;
+    private final ExecutorService executor;
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    public AgentExecutor(Mode mode) {
+        this.mode = mode;
+        ThreadFactory factory = mode == Mode.VIRTUAL
+                ? Thread.ofVirtual().name("agent-", 0).factory()
+                : Thread.ofPlatform().name("agent-", 0).daemon(true).factory();
+        this.executor = Executors.newThreadPerTaskExecutor(factory);
+    }
+
+    // -Drestaurant.threads=virtual|platform
+    public static AgentExecutor fromSystemProperties() {
+        String value = System.getProperty(MODE_PROPERTY, Mode.PLATFORM.name());
+        try {
+            return new AgentExecutor(Mode.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Modo de hilos desconocido: " + value, e);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void execute(Runnable agentLoop) {
+        executor.execute(agentLoop);
+    }
+
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
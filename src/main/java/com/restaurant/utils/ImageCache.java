@@ -1,41 +1,99 @@
 package com.restaurant.utils;
 
 import com.restaurant.config.GameConfig;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
-import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.image.ImageView;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+// Los sprites de personas y objetos se sirven desde un atlas cargado en segundo plano al iniciar.
+// El resto de imágenes (fondo, variantes de otros tamaños) pasa por una caché LRU acotada.
 public class ImageCache {
-    private static final ConcurrentHashMap<String, Image> cache = new ConcurrentHashMap<>();
+    public static final List<String> ATLAS_SPRITES = List.of(
+            "image/personas/Persona.png",
+            "image/personas/Persona2.png",
+            "image/personas/Persona3.png",
+            "image/personas/Persona4.png",
+            "image/personas/Mesera.png",
+            "image/personas/Cocinero.png",
+            "image/personas/Cocinero2.png",
+            "image/personas/Recepcionista.png",
+            "image/objetos/Mesa1Persona.png",
+            "image/objetos/Estufa.png"
+    );
+    public static final String BACKGROUND = "image/fondo.png";
+    private static final int SPRITE_CELL = GameConfig.SPRITE_SIZE * 2;
+    private static final int MAX_CACHED_IMAGES = 32;
+
+    private static final Map<String, Image> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > MAX_CACHED_IMAGES;
+        }
+    };
+    private static volatile SpriteAtlas atlas;
 
     public static Image getImage(String path) {
-        return cache.computeIfAbsent(path, key -> {
-            Image img = new Image(key,
-                    GameConfig.SPRITE_SIZE * 2,  // width
-                    GameConfig.SPRITE_SIZE * 2,  // height
-                    true,
-                    true,
-                    true);
-            return img;
+        return getImage(path, SPRITE_CELL, SPRITE_CELL);
+    }
+
+    // Un tamaño de 0 conserva las dimensiones originales de la imagen
+    public static Image getImage(String path, double width, double height) {
+        String key = path + '@' + width + 'x' + height;
+        synchronized (cache) {
+            Image cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // La decodificación ocurre fuera del candado para no bloquear otras búsquedas
+        Image image = new Image(path, width, height, true, true, false);
+        synchronized (cache) {
+            Image raced = cache.putIfAbsent(key, image);
+            return raced != null ? raced : image;
+        }
+    }
+
+    public static ImageView createView(String path, double width, double height) {
+        ImageView imageView = new ImageView();
+        setSprite(imageView, path);
+        imageView.setFitWidth(width);
+        imageView.setFitHeight(height);
+        imageView.setSmooth(true);
+        imageView.setCache(true);
+        return imageView;
+    }
+
+    // Si el atlas aún no está listo o no contiene el sprite, usa la imagen suelta
+    public static void setSprite(ImageView imageView, String path) {
+        SpriteAtlas current = atlas;
+        Rectangle2D region = current == null ? null : current.getRegion(path);
+        if (region == null) {
+            imageView.setImage(getImage(path));
+            imageView.setViewport(null);
+        } else {
+            imageView.setImage(current.getTexture());
+            imageView.setViewport(region);
+        }
+    }
+
+    // null mientras el atlas no esté construido
+    public static SpriteAtlas getAtlas() {
+        return atlas;
+    }
+
+    // Construye el atlas y decodifica el fondo fuera del hilo de FX
+    public static CompletableFuture<Void> preloadAsync() {
+        return CompletableFuture.runAsync(() -> {
+            atlas = SpriteAtlas.build(ATLAS_SPRITES, SPRITE_CELL);
+            getImage(BACKGROUND, 0, 0);
         });
     }
 
     public static void preloadImages() {
-        String[] paths = {
-                "image/personas/Persona.png",
-                "image/personas/Persona2.png",
-                "image/personas/Persona3.png",
-                "image/personas/Persona4.png",
-                "image/personas/Mesera.png",
-                "image/personas/Cocinero.png",
-                "image/personas/Cocinero2.png",
-                "image/personas/Recepcionista.png",
-                "image/objetos/Mesa1Persona.png",
-                "image/objetos/Estufa.png"
-
-        };
-
-        for (String path : paths) {
-            getImage(path);
-        }
+        preloadAsync().join();
     }
 }
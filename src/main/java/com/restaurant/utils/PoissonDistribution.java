@@ -1,29 +1,93 @@
 package com.restaurant.utils;
 
+import java.util.SplittableRandom;
+
+// No es segura entre hilos: usa el flujo aleatorio que recibe sin sincronizar.
 public class PoissonDistribution {
+    // Por debajo de este valor la inversión secuencial es más barata que el rechazo
+    private static final double PTRS_THRESHOLD = 10.0;
+    private static final double[] LOG_FACTORIALS = new double[10];
+
+    static {
+        for (int k = 1; k < LOG_FACTORIALS.length; k++) {
+            LOG_FACTORIALS[k] = LOG_FACTORIALS[k - 1] + Math.log(k);
+        }
+    }
+
     private final double lambda;
+    private final SplittableRandom random;
+    private final double expMinusLambda;
+    // Constantes de PTRS (Hörmann, 1993)
+    private final double logLambda;
+    private final double b;
+    private final double a;
+    private final double logInvAlpha;
+    private final double vr;
 
-    public PoissonDistribution(double lambda) {
+    public PoissonDistribution(double lambda, SplittableRandom random) {
         if (lambda <= 0) {
             throw new IllegalArgumentException("Lambda debe ser mayor que 0");
         }
         this.lambda = lambda;
+        this.random = random;
+        this.expMinusLambda = Math.exp(-lambda);
+        this.logLambda = Math.log(lambda);
+        this.b = 0.931 + 2.53 * Math.sqrt(lambda);
+        this.a = -0.059 + 0.02483 * b;
+        this.logInvAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+        this.vr = 0.9277 - 3.6224 / (b - 2);
     }
 
     public int nextInt() {
-        double L = Math.exp(-lambda);
-        double p = 1.0;
-        int k = 0;
+        return lambda < PTRS_THRESHOLD ? nextIntByInversion() : nextIntByRejection();
+    }
+
+    public double nextArrivalTime() {
+        return -Math.log(1.0 - random.nextDouble()) / lambda;
+    }
 
-        do {
+    private int nextIntByInversion() {
+        double u = random.nextDouble();
+        double p = expMinusLambda;
+        double cumulative = p;
+        int k = 0;
+        while (u > cumulative && p > 0) {
             k++;
-            p *= Math.random();
-        } while (p > L);
+            p *= lambda / k;
+            cumulative += p;
+        }
+        return k;
+    }
 
-        return k - 1;
+    // Rechazo con transformación (PTRS): costo esperado constante sin importar lambda
+    private int nextIntByRejection() {
+        while (true) {
+            double u = random.nextDouble() - 0.5;
+            double v = random.nextDouble();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2 * a / us + b) * u + lambda + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return (int) k;
+            }
+            if (k < 0 || (us < 0.013 && v > us)) {
+                continue;
+            }
+            if (Math.log(v) + logInvAlpha - Math.log(a / (us * us) + b)
+                    <= -lambda + k * logLambda - logFactorial(k)) {
+                return (int) k;
+            }
+        }
     }
 
-    public double nextArrivalTime() {
-        return -Math.log(1.0 - Math.random()) / lambda;
+    private static double logFactorial(long k) {
+        if (k < LOG_FACTORIALS.length) {
+            return LOG_FACTORIALS[(int) k];
+        }
+        // Serie de Stirling; con k >= 10 el error queda por debajo de 1e-10
+        double x = k;
+        double inv = 1.0 / x;
+        double inv2 = inv * inv;
+        return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x)
+                + inv * (1.0 / 12 - inv2 * (1.0 / 360 - inv2 / 1260));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.restaurant.utils;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Fuente central de aleatoriedad: cada agente recibe su propio flujo independiente derivado de
+// una única semilla, así que una corrida se puede repetir y ningún hilo comparte generador.
+// Los flujos devueltos no son seguros entre hilos; cada uno debe usarse desde un solo agente.
+public class RandomStreams {
+    public static final String SEED_PROPERTY = "restaurant.seed";
+
+    private final long seed;
+    private final SplittableRandom root;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+    }
+
+    // -Drestaurant.seed=<long>; sin la propiedad se elige una semilla nueva en cada ejecución
+    public static RandomStreams fromSystemProperties() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value == null) {
+            return new RandomStreams(new SplittableRandom().nextLong());
+        }
+        try {
+            return new RandomStreams(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Semilla inválida: " + value, e);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public SplittableRandom newStream() {
+        lock.lock();
+        try {
+            return root.split();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.restaurant.utils;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Reloj virtual del juego: avanza al ritmo real multiplicado por la velocidad, se puede pausar y
+// adelantar a mano. Las esperas y los temporizadores se expresan en milisegundos simulados y se
+// despiertan de nuevo cuando cambia la velocidad, así que un cambio no deja plazos mal calculados.
+public class SimulationClock {
+    public static final double MIN_SPEED = 0.1;
+    public static final double MAX_SPEED = 1000.0;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    // Despertar de awaitNanos tarda cientos de microsegundos, que a 1000× son cientos de milisegundos
+    // simulados; el último tramo antes de un plazo se espera activamente
+    private static final long SPIN_NANOS = 200_000L;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+    private volatile Rate rate = new Rate(0, System.nanoTime(), 1.0, false);
+    private long timerSequence;
+    private Thread timerThread;
+
+    // A partir de realBase el tiempo simulado avanza desde simulatedBase a razón de speed
+    private record Rate(long simulatedBase, long realBase, double speed, boolean paused) {
+        long simulatedNanos(long realNow) {
+            return paused ? simulatedBase : simulatedBase + (long) ((realNow - realBase) * speed);
+        }
+    }
+
+    private static class Timer implements Comparable<Timer> {
+        final Runnable task;
+        final long periodNanos;
+        final long sequence;
+        long deadline;
+
+        Timer(Runnable task, long deadline, long periodNanos, long sequence) {
+            this.task = task;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Timer other) {
+            int byDeadline = Long.compare(deadline, other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    public long nanos() {
+        return rate.simulatedNanos(System.nanoTime());
+    }
+
+    // Milisegundos simulados desde que se creó el reloj
+    public long now() {
+        return nanos() / NANOS_PER_MILLI;
+    }
+
+    public double getSpeed() {
+        return rate.speed();
+    }
+
+    public boolean isPaused() {
+        return rate.paused();
+    }
+
+    public void setSpeed(double speed) {
+        if (speed < MIN_SPEED || speed > MAX_SPEED) {
+            throw new IllegalArgumentException("La velocidad debe estar entre " + MIN_SPEED + " y " + MAX_SPEED);
+        }
+        update(speed, rate.paused(), 0);
+    }
+
+    public void pause() {
+        update(rate.speed(), true, 0);
+    }
+
+    public void resume() {
+        update(rate.speed(), false, 0);
+    }
+
+    // Adelanta el reloj; pensado para avanzar paso a paso mientras está en pausa
+    public void step(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("El paso debe ser positivo");
+        }
+        update(rate.speed(), rate.paused(), millis * NANOS_PER_MILLI);
+    }
+
+    private void update(double speed, boolean paused, long advanceNanos) {
+        lock.lock();
+        try {
+            long realNow = System.nanoTime();
+            long simulatedNow = rate.simulatedNanos(realNow) + advanceNanos;
+            rate = new Rate(simulatedNow, realNow, speed, paused);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Equivalente a Thread.sleep en tiempo simulado
+    public void sleep(long millis) throws InterruptedException {
+        long deadline = nanos() + millis * NANOS_PER_MILLI;
+        while (true) {
+            lock.lock();
+            try {
+                long remaining;
+                while ((remaining = realNanosUntil(deadline)) > SPIN_NANOS) {
+                    awaitReal(remaining);
+                }
+            } finally {
+                lock.unlock();
+            }
+            long remaining;
+            while ((remaining = realNanosUntil(deadline)) > 0 && remaining <= SPIN_NANOS) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                Thread.onSpinWait();
+            }
+            if (remaining <= 0) {
+                return;
+            }
+        }
+    }
+
+    public void schedule(Runnable task, long delayMillis) {
+        addTimer(task, delayMillis, 0);
+    }
+
+    public void scheduleAtFixedRate(Runnable task, long initialDelayMillis, long periodMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("El periodo debe ser positivo");
+        }
+        addTimer(task, initialDelayMillis, periodMillis);
+    }
+
+    // Descarta los temporizadores pendientes y detiene su hilo
+    public void shutdown() {
+        lock.lock();
+        try {
+            timers.clear();
+            if (timerThread != null) {
+                timerThread.interrupt();
+                timerThread = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addTimer(Runnable task, long delayMillis, long periodMillis) {
+        lock.lock();
+        try {
+            long deadline = nanos() + Math.max(0, delayMillis) * NANOS_PER_MILLI;
+            timers.add(new Timer(task, deadline, periodMillis * NANOS_PER_MILLI, timerSequence++));
+            if (timerThread == null) {
+                timerThread = Thread.ofPlatform().daemon().name("simulation-clock").start(this::runTimers);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runTimers() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Timer timer = null;
+            lock.lock();
+            try {
+                while (true) {
+                    Timer next = timers.peek();
+                    long remaining = next == null ? Long.MAX_VALUE : realNanosUntil(next.deadline);
+                    if (remaining <= 0) {
+                        timer = timers.poll();
+                        if (timer.periodNanos > 0) {
+                            timer.deadline += timer.periodNanos;
+                            timers.add(timer);
+                        }
+                        break;
+                    }
+                    if (remaining <= SPIN_NANOS) {
+                        break;
+                    }
+                    awaitReal(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                lock.unlock();
+            }
+
+            if (timer == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                timer.task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error en temporizador de simulación: " + e.getMessage());
+            }
+        }
+    }
+
+    // Nanosegundos reales hasta el plazo al ritmo actual; Long.MAX_VALUE si el reloj está en pausa
+    private long realNanosUntil(long deadline) {
+        Rate current = rate;
+        long remaining = deadline - current.simulatedNanos(System.nanoTime());
+        if (remaining <= 0) {
+            return 0;
+        }
+        return current.paused() ? Long.MAX_VALUE : Math.max(1, (long) (remaining / current.speed()));
+    }
+
+    // Duerme hasta el tramo de espera activa; cualquier cambio de ritmo la despierta antes
+    private void awaitReal(long remaining) throws InterruptedException {
+        if (remaining == Long.MAX_VALUE) {
+            changed.await();
+        } else {
+            changed.awaitNanos(remaining - SPIN_NANOS);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.restaurant.utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Empaqueta varios sprites en una sola textura; cada sprite se sirve como un viewport de la textura.
+public class SpriteAtlas {
+    // Separación entre celdas para que el suavizado no mezcle píxeles de sprites vecinos
+    private static final int PADDING = 1;
+    private static final int MAX_TEXTURE_SIZE = 4096;
+
+    private final Image texture;
+    private final Map<String, Rectangle2D> regions;
+
+    private SpriteAtlas(Image texture, Map<String, Rectangle2D> regions) {
+        this.texture = texture;
+        this.regions = regions;
+    }
+
+    // Decodifica cada sprite escalado a cellSize y lo copia a su celda
+    public static SpriteAtlas build(List<String> paths, int cellSize) {
+        int columns = (int) Math.ceil(Math.sqrt(paths.size()));
+        int rows = (paths.size() + columns - 1) / columns;
+        int stride = cellSize + PADDING;
+        int width = columns * stride;
+        int height = rows * stride;
+        if (width > MAX_TEXTURE_SIZE || height > MAX_TEXTURE_SIZE) {
+            throw new IllegalArgumentException("El atlas excede " + MAX_TEXTURE_SIZE + " px: " + width + "x" + height);
+        }
+
+        WritableImage texture = new WritableImage(width, height);
+        PixelWriter writer = texture.getPixelWriter();
+        Map<String, Rectangle2D> regions = new HashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            String path = paths.get(i);
+            Image sprite = new Image(path, cellSize, cellSize, true, true, false);
+            if (sprite.isError()) {
+                throw new IllegalStateException("No se pudo cargar el sprite " + path, sprite.getException());
+            }
+            int spriteWidth = Math.min(cellSize, (int) sprite.getWidth());
+            int spriteHeight = Math.min(cellSize, (int) sprite.getHeight());
+            int x = (i % columns) * stride;
+            int y = (i / columns) * stride;
+            writer.setPixels(x, y, spriteWidth, spriteHeight, sprite.getPixelReader(), 0, 0);
+            regions.put(path, new Rectangle2D(x, y, spriteWidth, spriteHeight));
+        }
+        return new SpriteAtlas(texture, Map.copyOf(regions));
+    }
+
+    public Image getTexture() {
+        return texture;
+    }
+
+    // Devuelve null si el sprite no está empaquetado en el atlas
+    public Rectangle2D getRegion(String path) {
+        return regions.get(path);
+    }
+
+    public int size() {
+        return regions.size();
+    }
+}
@@ -0,0 +1,113 @@
+package com.restaurant.domain.arrivals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateProfileTest {
+    private static final long HOUR = 60L * 60 * 1000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void constantProfileHasTheSameRateAllDay() {
+        RateProfile profile = RateProfile.constant(0.2);
+        for (long t = -HOUR; t < 30 * HOUR; t += 7 * 60_000) {
+            assertEquals(0.2, profile.rateAt(t), 1e-12);
+        }
+        assertEquals(0.2, profile.getMaxRate());
+        assertEquals(0.2 * 3600, profile.expectedArrivals(0, HOUR), 1e-9);
+    }
+
+    @Test
+    void ratesAreInterpolatedAndWrapAroundMidnight() {
+        RateProfile profile = new RateProfile.Builder()
+                .at(0, 0, 1)
+                .at(12, 0, 3)
+                .build();
+
+        assertEquals(1, profile.rateAt(0), 1e-12);
+        assertEquals(2, profile.rateAt(6 * HOUR), 1e-12);
+        assertEquals(3, profile.rateAt(12 * HOUR), 1e-12);
+        // De las 12:00 se vuelve al punto de las 00:00 del día siguiente
+        assertEquals(2, profile.rateAt(18 * HOUR), 1e-12);
+        assertEquals(profile.rateAt(18 * HOUR), profile.rateAt(-6 * HOUR), 1e-12);
+        assertEquals(profile.rateAt(6 * HOUR), profile.rateAt(30 * HOUR), 1e-12);
+        assertEquals(3, profile.getMaxRate());
+    }
+
+    @Test
+    void firstPointAfterMidnightWrapsFromTheLastOne() {
+        RateProfile profile = new RateProfile.Builder()
+                .at(6, 0, 2)
+                .at(18, 0, 4)
+                .build();
+
+        // Entre las 18:00 y las 06:00 del día siguiente la tasa baja de 4 a 2
+        assertEquals(3, profile.rateAt(0), 1e-12);
+        assertEquals(3.5, profile.rateAt(21 * HOUR), 1e-12);
+        assertEquals(2.5, profile.rateAt(3 * HOUR), 1e-12);
+    }
+
+    @Test
+    void rushHoursTripleTheBaseRate() {
+        RateProfile profile = RateProfile.rushHours(0.1);
+        assertEquals(0.3, profile.getMaxRate(), 1e-12);
+        assertEquals(0.1, profile.rateAt(3 * HOUR), 1e-12);
+        assertEquals(0.3, profile.rateAt(14 * HOUR), 1e-12);
+        assertEquals(0.3, profile.rateAt(21 * HOUR), 1e-12);
+    }
+
+    @Test
+    void expectedArrivalsIntegrateALinearRamp() {
+        RateProfile profile = new RateProfile.Builder()
+                .at(0, 0, 0)
+                .at(1, 0, 2)
+                .at(23, 0, 2)
+                .build();
+        // Rampa de 0 a 2 por segundo durante una hora: el promedio es 1 por segundo
+        assertEquals(3600, profile.expectedArrivals(0, HOUR), 1e-6);
+    }
+
+    @Test
+    void parsesClientsPerHourAndSkipsComments() {
+        RateProfile profile = RateProfile.parse(List.of(
+                "# hora,clientes_por_hora",
+                "",
+                "00:00, 360",
+                "  12:30,7200  "
+        ));
+        assertEquals(0.1, profile.rateAt(0), 1e-12);
+        assertEquals(2, profile.rateAt(12 * HOUR + 30 * 60_000), 1e-12);
+    }
+
+    @Test
+    void rejectsInvalidProfiles() {
+        assertThrows(IllegalArgumentException.class, () -> RateProfile.parse(List.of("12:00")));
+        assertThrows(IllegalArgumentException.class, () -> RateProfile.parse(List.of("1200,30")));
+        assertThrows(IllegalArgumentException.class, () -> RateProfile.parse(List.of("25:00,30")));
+        assertThrows(IllegalArgumentException.class, () -> RateProfile.parse(List.of("10:00,30", "09:00,30")));
+        assertThrows(IllegalArgumentException.class, () -> RateProfile.parse(List.of("10:00,-5")));
+        assertThrows(IllegalArgumentException.class, () -> RateProfile.parse(List.of("10:00,0")));
+        assertThrows(IllegalArgumentException.class, () -> RateProfile.parse(List.of()));
+    }
+
+    @Test
+    void namedProfilesIncludeFiles() throws IOException {
+        assertEquals(0.5, RateProfile.named("constant", 0.5).getMaxRate(), 1e-12);
+        assertEquals(1.5, RateProfile.named("rush", 0.5).getMaxRate(), 1e-12);
+
+        Path file = directory.resolve("perfil.csv");
+        Files.write(file, List.of("08:00,1800", "20:00,3600"));
+        RateProfile profile = RateProfile.named(file.toString(), 0.5);
+        assertEquals(1, profile.getMaxRate(), 1e-12);
+        assertEquals(0.5, profile.rateAt(8 * HOUR), 1e-12);
+    }
+}
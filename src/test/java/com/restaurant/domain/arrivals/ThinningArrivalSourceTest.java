@@ -0,0 +1,81 @@
+package com.restaurant.domain.arrivals;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThinningArrivalSourceTest {
+    private static final long HOUR = 60L * 60 * 1000;
+
+    // Cuenta llegadas por hora del día durante varios días simulados
+    private static long[] arrivalsPerHour(ThinningArrivalSource source, int days) {
+        long[] perHour = new long[24];
+        long end = days * RateProfile.DAY_MILLIS;
+        long previous = 0;
+        long time;
+        while ((time = source.nextArrival()) < end) {
+            assertTrue(time >= previous, "Las llegadas deben ir en orden");
+            previous = time;
+            perHour[(int) (time % RateProfile.DAY_MILLIS / HOUR)]++;
+        }
+        return perHour;
+    }
+
+    private static void assertPoissonCount(double expected, long observed, String context) {
+        // Cinco desviaciones estándar de un conteo de Poisson
+        assertEquals(expected, observed, 5 * Math.sqrt(expected), context);
+    }
+
+    @Test
+    void constantProfileGivesAHomogeneousProcess() {
+        RateProfile profile = RateProfile.constant(0.05);
+        ThinningArrivalSource source = new ThinningArrivalSource(profile, 0, new SplittableRandom(1));
+        long[] perHour = arrivalsPerHour(source, 10);
+        long total = 0;
+        for (long count : perHour) {
+            total += count;
+        }
+        assertPoissonCount(0.05 * 3600 * 24 * 10, total, "total");
+    }
+
+    @Test
+    void hourlyCountsFollowTheProfile() {
+        RateProfile profile = RateProfile.rushHours(0.02);
+        int days = 20;
+        for (long seed : new long[]{3, 17}) {
+            ThinningArrivalSource source = new ThinningArrivalSource(profile, 0, new SplittableRandom(seed));
+            long[] perHour = arrivalsPerHour(source, days);
+            for (int hour = 0; hour < 24; hour++) {
+                double expected = days * profile.expectedArrivals(hour * HOUR, (hour + 1) * HOUR);
+                assertPoissonCount(expected, perHour[hour], "hora " + hour + ", semilla " + seed);
+            }
+        }
+    }
+
+    @Test
+    void openingTimeShiftsTheProfile() {
+        // Abrir a las 14:00 empieza en plena hora pico
+        RateProfile profile = RateProfile.rushHours(0.02);
+        ThinningArrivalSource source = new ThinningArrivalSource(profile, 14 * HOUR, new SplittableRandom(5));
+        int firstHalfHour = 0;
+        long time;
+        while ((time = source.nextArrival()) < 30 * 60_000) {
+            firstHalfHour++;
+        }
+        assertPoissonCount(profile.expectedArrivals(14 * HOUR, 14 * HOUR + 30 * 60_000), firstHalfHour,
+                "primera media hora");
+        assertTrue(time >= 30 * 60_000);
+    }
+
+    @Test
+    void sameSeedGivesTheSameArrivals() {
+        RateProfile profile = RateProfile.rushHours(0.02);
+        ThinningArrivalSource first = new ThinningArrivalSource(profile, 0, new SplittableRandom(9));
+        ThinningArrivalSource second = new ThinningArrivalSource(profile, 0, new SplittableRandom(9));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nextArrival(), second.nextArrival());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.restaurant.domain.arrivals;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceArrivalSourceTest {
+
+    @TempDir
+    Path directory;
+
+    private Path write(String name, String content) throws IOException {
+        Path path = directory.resolve(name);
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path;
+    }
+
+    private Path writeBinary(String name, int version, long[] times, int[] parties, int extraBytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TraceArrivalSource.HEADER_SIZE
+                + times.length * TraceArrivalSource.RECORD_SIZE + extraBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(TraceArrivalSource.MAGIC).putInt(version).putLong(0);
+        for (int i = 0; i < times.length; i++) {
+            buffer.putLong(times[i]).putInt(parties[i]).putInt(0);
+        }
+        Path path = directory.resolve(name);
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    private static List<Long> readAll(TraceArrivalSource source) {
+        List<Long> arrivals = new ArrayList<>();
+        long time;
+        while ((time = source.nextArrival()) != ArrivalSource.NO_MORE_ARRIVALS) {
+            arrivals.add(time);
+        }
+        return arrivals;
+    }
+
+    @Test
+    void csvEpochMillisWithPartiesStartsAtZero() throws IOException {
+        Path path = write("llegadas.csv", """
+                marca,personas
+                1700000000000,2
+                # comentario
+
+                1700000001500
+                1700000003000,0
+                "1700000004000", 3\r
+                """);
+        try (TraceArrivalSource source = TraceArrivalSource.open(path)) {
+            assertFalse(source.isBinary());
+            assertEquals(List.of(0L, 0L, 1500L, 4000L, 4000L, 4000L), readAll(source));
+            assertEquals(3, source.getRecords());
+            assertEquals(0, source.getReordered());
+        }
+    }
+
+    @Test
+    void csvAcceptsLocalDateTimes() throws IOException {
+        Path path = write("iso.csv", """
+                2024-03-01T13:05:00,1
+                2024-03-01 13:05:30.250,1
+                2024-03-01 14:05:00
+                """);
+        try (TraceArrivalSource source = TraceArrivalSource.open(path)) {
+            assertEquals(List.of(0L, 30_250L, 3_600_000L), readAll(source));
+        }
+    }
+
+    @Test
+    void outOfOrderRecordsAreMovedToThePreviousTime() throws IOException {
+        Path path = write("desordenada.csv", "1000\n5000\n3000\n6000\n");
+        try (TraceArrivalSource source = TraceArrivalSource.open(path)) {
+            assertEquals(List.of(0L, 4000L, 4000L, 5000L), readAll(source));
+            assertEquals(1, source.getReordered());
+        }
+    }
+
+    @Test
+    void invalidCsvReportsTheLine() throws IOException {
+        Path badTime = write("mala.csv", "1000\nayer\n");
+        try (TraceArrivalSource source = TraceArrivalSource.open(badTime)) {
+            assertEquals(0, source.nextArrival());
+            UncheckedIOException error = assertThrows(UncheckedIOException.class, source::nextArrival);
+            assertTrue(error.getCause().getMessage().contains("línea 2"));
+        }
+
+        Path badParty = write("grupo.csv", "1000,dos\n");
+        try (TraceArrivalSource source = TraceArrivalSource.open(badParty)) {
+            assertThrows(UncheckedIOException.class, source::nextArrival);
+        }
+    }
+
+    @Test
+    void emptyFileHasNoArrivals() throws IOException {
+        try (TraceArrivalSource source = TraceArrivalSource.open(write("vacia.csv", ""))) {
+            assertEquals(ArrivalSource.NO_MORE_ARRIVALS, source.nextArrival());
+        }
+    }
+
+    @Test
+    void csvLargerThanTheReadBufferIsReadCompletely() throws IOException {
+        StringBuilder content = new StringBuilder();
+        int lines = 120_000;
+        for (int i = 0; i < lines; i++) {
+            content.append(1_700_000_000_000L + i * 250L).append(",1\n");
+        }
+        Path path = write("grande.csv", content.toString());
+        assertTrue(Files.size(path) > 1 << 20);
+
+        try (TraceArrivalSource source = TraceArrivalSource.open(path)) {
+            List<Long> arrivals = readAll(source);
+            assertEquals(lines, arrivals.size());
+            for (int i = 0; i < lines; i++) {
+                assertEquals(i * 250L, arrivals.get(i));
+            }
+        }
+    }
+
+    @Test
+    void binaryRecordsExpandParties() throws IOException {
+        Path path = writeBinary("llegadas.bin", TraceArrivalSource.VERSION,
+                new long[]{10_000, 10_500, 11_000, 9_000}, new int[]{1, 0, 2, 1}, 5);
+        try (TraceArrivalSource source = TraceArrivalSource.open(path)) {
+            assertTrue(source.isBinary());
+            // El registro sin personas se salta, el desordenado se adelanta y el resto incompleto se ignora
+            assertEquals(List.of(0L, 1000L, 1000L, 1000L), readAll(source));
+            assertEquals(3, source.getRecords());
+            assertEquals(1, source.getReordered());
+        }
+    }
+
+    @Test
+    void binaryWithAnotherVersionIsRejected() throws IOException {
+        Path path = writeBinary("futura.bin", TraceArrivalSource.VERSION + 1, new long[]{0}, new int[]{1}, 0);
+        assertThrows(UncheckedIOException.class, () -> TraceArrivalSource.open(path));
+    }
+
+    @Test
+    void missingFileIsReported() {
+        assertThrows(UncheckedIOException.class, () -> TraceArrivalSource.open(directory.resolve("no-existe.csv")));
+    }
+
+    @Test
+    void conversionToBinaryKeepsTheArrivals() throws IOException {
+        Path csv = write("origen.csv", """
+                timestamp,party
+                2024-03-01T12:00:00,2
+                2024-03-01T12:00:10,1
+                2024-03-01T12:00:05,1
+                2024-03-01T12:01:00,4
+                """);
+        Path binary = directory.resolve("convertida.bin");
+        ArrivalTraceTool.main(new String[]{csv.toString(), binary.toString()});
+
+        List<Long> expected;
+        try (TraceArrivalSource source = TraceArrivalSource.open(csv)) {
+            expected = readAll(source);
+        }
+        try (TraceArrivalSource source = TraceArrivalSource.open(binary)) {
+            assertTrue(source.isBinary());
+            assertEquals(expected, readAll(source));
+            // Las llegadas del mismo instante se agrupan de nuevo en un registro
+            assertEquals(3, source.getRecords());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.restaurant.domain.kitchen;
+
+import com.restaurant.domain.models.Order;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KitchenSchedulerTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    private static Order order(int id, long preparationTime) {
+        return new Order(id, id, preparationTime);
+    }
+
+    private Order submitAt(KitchenScheduler scheduler, long time, Order order) {
+        clock.set(time);
+        scheduler.submit(order);
+        return order;
+    }
+
+    @Test
+    void fifoCooksInArrivalOrder() {
+        KitchenScheduler scheduler = new KitchenScheduler(1, OrderSchedulingPolicy.FIFO, clock::get);
+        Order slow = submitAt(scheduler, 0, order(1, 8000));
+        Order fast = submitAt(scheduler, 10, order(2, 3000));
+        Order medium = submitAt(scheduler, 20, order(3, 5000));
+
+        assertSame(slow, scheduler.poll(0));
+        assertSame(fast, scheduler.poll(0));
+        assertSame(medium, scheduler.poll(0));
+        assertNull(scheduler.poll(0));
+    }
+
+    @Test
+    void shortestPrepFirstCooksQuickOrdersFirst() {
+        KitchenScheduler scheduler = new KitchenScheduler(1, OrderSchedulingPolicy.SHORTEST_PREP_FIRST, clock::get);
+        Order slow = submitAt(scheduler, 0, order(1, 8000));
+        Order fast = submitAt(scheduler, 10, order(2, 3000));
+        Order medium = submitAt(scheduler, 20, order(3, 5000));
+
+        assertSame(fast, scheduler.poll(0));
+        assertSame(medium, scheduler.poll(0));
+        assertSame(slow, scheduler.poll(0));
+    }
+
+    @Test
+    void shortestPrepFirstBreaksTiesByArrival() {
+        KitchenScheduler scheduler = new KitchenScheduler(1, OrderSchedulingPolicy.SHORTEST_PREP_FIRST, clock::get);
+        Order first = submitAt(scheduler, 0, order(1, 4000));
+        Order second = submitAt(scheduler, 0, order(2, 4000));
+
+        assertSame(first, scheduler.poll(0));
+        assertSame(second, scheduler.poll(0));
+    }
+
+    @Test
+    void agingLetsALongWaitOvertakeAShorterOrder() {
+        // Llega 2 s después con 4 s menos de preparación: 8000 contra 4000 + 0.5 * 2000
+        KitchenScheduler recent = new KitchenScheduler(1, OrderSchedulingPolicy.AGING, clock::get);
+        Order slow = submitAt(recent, 0, order(1, 8000));
+        Order fast = submitAt(recent, 2000, order(2, 4000));
+        assertSame(fast, recent.poll(0));
+        assertSame(slow, recent.poll(0));
+
+        // Llega 10 s después: 8000 contra 4000 + 0.5 * 10000, la orden lenta ya esperó bastante
+        KitchenScheduler late = new KitchenScheduler(1, OrderSchedulingPolicy.AGING, clock::get);
+        slow = submitAt(late, 0, order(1, 8000));
+        fast = submitAt(late, 10_000, order(2, 4000));
+        assertSame(slow, late.poll(0));
+        assertSame(fast, late.poll(0));
+    }
+
+    @Test
+    void idleCookStealsFromTheBusiestQueue() {
+        KitchenScheduler scheduler = new KitchenScheduler(3, OrderSchedulingPolicy.FIFO, clock::get);
+        // Se reparten a la cola más corta: 0, 1, 2 y luego otra vez 0
+        Order[] orders = new Order[4];
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = submitAt(scheduler, i, order(i + 1, 3000));
+        }
+        assertEquals(4, scheduler.getPendingCount());
+
+        assertSame(orders[1], scheduler.poll(1));
+        assertEquals(0, scheduler.getStolenOrders());
+
+        // La cola 1 quedó vacía; la 0 tiene dos órdenes y es la víctima
+        assertSame(orders[0], scheduler.poll(1));
+        assertEquals(1, scheduler.getStolenOrders());
+
+        assertSame(orders[2], scheduler.poll(2));
+        assertSame(orders[3], scheduler.poll(2));
+        assertEquals(2, scheduler.getStolenOrders());
+        assertEquals(0, scheduler.getPendingCount());
+        assertNull(scheduler.poll(0));
+    }
+
+    @Test
+    void takeBlocksUntilAnOrderArrives() throws Exception {
+        KitchenScheduler scheduler = new KitchenScheduler(2, OrderSchedulingPolicy.FIFO, clock::get);
+        AtomicReference<Order> taken = new AtomicReference<>();
+        Thread cook = new Thread(() -> {
+            try {
+                taken.set(scheduler.take(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        cook.start();
+
+        Order order = submitAt(scheduler, 0, order(1, 3000));
+        cook.join(5000);
+
+        assertFalse(cook.isAlive());
+        assertSame(order, taken.get());
+    }
+
+    @Test
+    void policyIsReadFromSystemProperty() {
+        String previous = System.getProperty(OrderSchedulingPolicy.PROPERTY);
+        try {
+            System.clearProperty(OrderSchedulingPolicy.PROPERTY);
+            assertEquals(OrderSchedulingPolicy.FIFO, OrderSchedulingPolicy.fromSystemProperties());
+            System.setProperty(OrderSchedulingPolicy.PROPERTY, " aging ");
+            assertEquals(OrderSchedulingPolicy.AGING, OrderSchedulingPolicy.fromSystemProperties());
+            System.setProperty(OrderSchedulingPolicy.PROPERTY, "LIFO");
+            assertThrows(IllegalArgumentException.class, OrderSchedulingPolicy::fromSystemProperties);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(OrderSchedulingPolicy.PROPERTY);
+            } else {
+                System.setProperty(OrderSchedulingPolicy.PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    void rejectsAKitchenWithoutCooks() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new KitchenScheduler(0, OrderSchedulingPolicy.FIFO, clock::get));
+    }
+}
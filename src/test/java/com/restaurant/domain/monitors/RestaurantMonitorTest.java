@@ -0,0 +1,161 @@
+package com.restaurant.domain.monitors;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RestaurantMonitorTest {
+
+    @Test
+    void releasedTableCanBeReacquired() {
+        RestaurantMonitor monitor = new RestaurantMonitor(1);
+        assertEquals(0, monitor.tryAcquire());
+        assertEquals(-1, monitor.tryAcquire());
+
+        monitor.release(0);
+        assertEquals(0, monitor.getOccupiedTables());
+        assertEquals(0, monitor.tryAcquire());
+        assertEquals(1, monitor.getOccupiedTables());
+    }
+
+    @Test
+    void releaseHandsTheSameTableToTheWaitingRequest() throws Exception {
+        RestaurantMonitor monitor = new RestaurantMonitor(1);
+        int held = monitor.tryAcquire();
+        AtomicInteger granted = new AtomicInteger(-1);
+        Thread waiter = new Thread(() -> {
+            try {
+                granted.set(monitor.acquire());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        awaitWaitingRequests(monitor, 1);
+
+        monitor.release(held);
+        waiter.join(5000);
+
+        assertFalse(waiter.isAlive());
+        assertEquals(held, granted.get());
+        // La mesa pasó de mano sin quedar libre en medio
+        assertEquals(1, monitor.getOccupiedTables());
+        assertEquals(-1, monitor.tryAcquire());
+
+        monitor.release(held);
+        assertEquals(0, monitor.getOccupiedTables());
+    }
+
+    @Test
+    void waitingRequestsAreServedInArrivalOrder() throws Exception {
+        RestaurantMonitor monitor = new RestaurantMonitor(1);
+        int held = monitor.tryAcquire();
+        BlockingQueue<Integer> seated = new LinkedBlockingQueue<>();
+        Thread[] customers = new Thread[4];
+        for (int i = 0; i < customers.length; i++) {
+            int customer = i;
+            customers[i] = new Thread(() -> {
+                try {
+                    monitor.acquire();
+                    seated.add(customer);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            customers[i].start();
+            awaitWaitingRequests(monitor, i + 1);
+        }
+
+        for (int i = 0; i < customers.length; i++) {
+            monitor.release(held);
+            Integer next = seated.poll(5, TimeUnit.SECONDS);
+            assertNotNull(next);
+            assertEquals(i, next);
+        }
+        for (Thread customer : customers) {
+            customer.join(5000);
+        }
+        assertEquals(0, monitor.getWaitingRequests());
+    }
+
+    @Test
+    void timedAcquireGivesUpAndLeavesTheQueue() throws Exception {
+        RestaurantMonitor monitor = new RestaurantMonitor(1);
+        int held = monitor.tryAcquire();
+
+        assertEquals(-1, monitor.tryAcquire(20, TimeUnit.MILLISECONDS));
+        assertEquals(0, monitor.getWaitingRequests());
+
+        // Sin nadie esperando, liberar deja la mesa libre
+        monitor.release(held);
+        assertEquals(0, monitor.getOccupiedTables());
+        assertEquals(held, monitor.tryAcquire(20, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void timedAcquireReceivesTableReleasedBeforeTheDeadline() throws Exception {
+        RestaurantMonitor monitor = new RestaurantMonitor(1);
+        int held = monitor.tryAcquire();
+        AtomicInteger granted = new AtomicInteger(-2);
+        Thread waiter = new Thread(() -> {
+            try {
+                granted.set(monitor.tryAcquire(30, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        awaitWaitingRequests(monitor, 1);
+
+        monitor.release(held);
+        waiter.join(5000);
+
+        assertEquals(held, granted.get());
+    }
+
+    @Test
+    void interruptedWaiterLeavesTheQueue() throws Exception {
+        RestaurantMonitor monitor = new RestaurantMonitor(1);
+        int held = monitor.tryAcquire();
+        AtomicInteger interrupted = new AtomicInteger();
+        Thread waiter = new Thread(() -> {
+            try {
+                monitor.acquire();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        });
+        waiter.start();
+        awaitWaitingRequests(monitor, 1);
+
+        waiter.interrupt();
+        waiter.join(5000);
+
+        assertEquals(1, interrupted.get());
+        assertEquals(0, monitor.getWaitingRequests());
+        monitor.release(held);
+        assertEquals(0, monitor.getOccupiedTables());
+    }
+
+    @Test
+    void releasingAFreeTableFails() {
+        RestaurantMonitor monitor = new RestaurantMonitor(2);
+        assertThrows(IllegalStateException.class, () -> monitor.release(1));
+    }
+
+    private static void awaitWaitingRequests(RestaurantMonitor monitor, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (monitor.getWaitingRequests() < expected) {
+            assertTrue(System.nanoTime() < deadline, "La solicitud nunca quedó en espera");
+            Thread.sleep(1);
+        }
+    }
+}
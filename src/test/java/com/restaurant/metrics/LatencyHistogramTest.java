@@ -0,0 +1,121 @@
+package com.restaurant.metrics;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveTheirOwnBucket() {
+        for (long value = 0; value < 2 * LatencyHistogram.SUB_BUCKETS; value++) {
+            assertEquals(value, LatencyHistogram.indexFor(value));
+            assertEquals(value, LatencyHistogram.highestValueAt((int) value));
+        }
+    }
+
+    @Test
+    void bucketsCoverEachValueWithinOneSixtyFourth() {
+        SplittableRandom random = new SplittableRandom(5);
+        int previousIndex = -1;
+        for (long value = 0; value <= LatencyHistogram.MAX_VALUE; value = value * 2 + 1 + random.nextLong(3)) {
+            int index = LatencyHistogram.indexFor(value);
+            long highest = LatencyHistogram.highestValueAt(index);
+            assertTrue(index > previousIndex, "Los índices deben crecer con el valor: " + value);
+            assertTrue(highest >= value, "La cubeta de " + value + " termina en " + highest);
+            assertTrue(highest - value < Math.max(1, value / LatencyHistogram.SUB_BUCKETS),
+                    "Error relativo demasiado grande para " + value);
+            previousIndex = index;
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(LatencyHistogram.MAX_VALUE + 1);
+            long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexFor(value));
+            assertTrue(highest >= value && highest - value <= value / LatencyHistogram.SUB_BUCKETS);
+        }
+    }
+
+    @Test
+    void bucketBoundariesAreContiguous() {
+        for (int index = 1; index < LatencyHistogram.BUCKETS; index++) {
+            long start = LatencyHistogram.highestValueAt(index - 1) + 1;
+            assertEquals(index, LatencyHistogram.indexFor(start));
+            assertEquals(index, LatencyHistogram.indexFor(LatencyHistogram.highestValueAt(index)));
+        }
+    }
+
+    @Test
+    void valuesOutsideTheRangeAreClamped() {
+        assertEquals(0, LatencyHistogram.indexFor(-5));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.indexFor(LatencyHistogram.MAX_VALUE));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.indexFor(Long.MAX_VALUE));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-10);
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void percentilesOfAUniformRun() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(10_000, histogram.getTotalCount());
+        assertEquals(5000.5, histogram.getMean(), 1e-9);
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(10_000, histogram.getValueAtPercentile(100));
+        for (double percentile : new double[]{10, 50, 90, 99, 99.9}) {
+            long exact = (long) Math.ceil(percentile / 100 * 10_000);
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact && reported - exact <= exact / LatencyHistogram.SUB_BUCKETS,
+                    "p" + percentile + " = " + reported + ", se esperaba cerca de " + exact);
+        }
+    }
+
+    @Test
+    void percentileNeverExceedsTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        // 1000 cae en una cubeta que llega hasta 1007
+        assertEquals(1007, LatencyHistogram.highestValueAt(LatencyHistogram.indexFor(1000)));
+        assertEquals(1000, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getTotalCount());
+    }
+
+    @Test
+    void subtractingAnEarlierSnapshotLeavesOnlyTheNewValues() {
+        LatencyHistogram earlier = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            earlier.record(value * 1000);
+        }
+        LatencyHistogram recent = new LatencyHistogram();
+        for (long value = 1; value <= 50; value++) {
+            recent.record(value);
+        }
+
+        LatencyHistogram total = new LatencyHistogram();
+        total.add(earlier);
+        total.add(recent);
+        assertEquals(150, total.getTotalCount());
+        assertEquals(100_000, total.getMax());
+
+        total.subtract(earlier);
+        assertEquals(50, total.getTotalCount());
+        assertEquals(recent.getMean(), total.getMean(), 1e-9);
+        assertEquals(recent.getValueAtPercentile(50), total.getValueAtPercentile(50));
+        // El máximo sigue siendo el acumulado, así que los percentiles altos no se acotan por él
+        assertEquals(100_000, total.getMax());
+        assertEquals(50, total.getValueAtPercentile(100));
+    }
+}
@@ -0,0 +1,156 @@
+package com.restaurant.metrics;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeSeriesTest {
+    private static final long BUCKET = 1000;
+
+    private static double[] points(TimeSeries series, int level) {
+        double[] out = new double[series.getCapacity()];
+        int count = series.copy(level, out.length, out);
+        return Arrays.copyOf(out, count);
+    }
+
+    // Una muestra por cubeta; la muestra final sólo cierra la última cubeta
+    private static TimeSeries fill(TimeSeries series, double... values) {
+        for (int i = 0; i < values.length; i++) {
+            series.add(i * BUCKET, values[i]);
+        }
+        series.add(values.length * BUCKET, 0);
+        return series;
+    }
+
+    @Test
+    void ringKeepsTheNewestPointsOldestFirst() {
+        TimeSeries series = fill(new TimeSeries(BUCKET, 4, TimeSeries.Aggregation.LAST), 0, 1, 2, 3, 4, 5, 6);
+
+        assertArrayEquals(new double[]{3, 4, 5, 6}, points(series, 0));
+
+        double[] lastTwo = new double[4];
+        assertEquals(2, series.copy(0, 2, lastTwo));
+        assertEquals(5, lastTwo[0]);
+        assertEquals(6, lastTwo[1]);
+
+        double[] small = new double[3];
+        assertEquals(3, series.copy(0, 10, small));
+        assertArrayEquals(new double[]{4, 5, 6}, small);
+    }
+
+    @Test
+    void openBucketIsNotVisibleUntilALaterOneArrives() {
+        TimeSeries series = new TimeSeries(BUCKET, 4, TimeSeries.Aggregation.MEAN);
+        series.add(0, 3);
+        series.add(999, 1);
+        assertEquals(0, points(series, 0).length);
+
+        series.add(1000, 7);
+        assertArrayEquals(new double[]{2}, points(series, 0));
+    }
+
+    @Test
+    void samplesInABucketFollowTheAggregation() {
+        double[][] expected = {{2}, {3}, {1}};
+        TimeSeries.Aggregation[] aggregations = TimeSeries.Aggregation.values();
+        for (int i = 0; i < aggregations.length; i++) {
+            TimeSeries series = new TimeSeries(BUCKET, 4, aggregations[i]);
+            series.add(0, 3);
+            series.add(500, 1);
+            series.add(1000, 0);
+            assertArrayEquals(expected[i], points(series, 0), aggregations[i].name());
+        }
+    }
+
+    @Test
+    void upperLevelsReduceByTheirFactor() {
+        double[] values = {4, 1, 2, 8, 3, 5};
+
+        TimeSeries mean = fill(new TimeSeries(BUCKET, 8, TimeSeries.Aggregation.MEAN, 2, 3), values);
+        assertArrayEquals(values, points(mean, 0));
+        assertArrayEquals(new double[]{2.5, 5, 4}, points(mean, 1));
+        assertArrayEquals(new double[]{11.5 / 3}, points(mean, 2), 1e-12);
+
+        TimeSeries max = fill(new TimeSeries(BUCKET, 8, TimeSeries.Aggregation.MAX, 2, 3), values);
+        assertArrayEquals(new double[]{4, 8, 5}, points(max, 1));
+        assertArrayEquals(new double[]{8}, points(max, 2));
+
+        TimeSeries last = fill(new TimeSeries(BUCKET, 8, TimeSeries.Aggregation.LAST, 2, 3), values);
+        assertArrayEquals(new double[]{1, 8, 5}, points(last, 1));
+        assertArrayEquals(new double[]{5}, points(last, 2));
+
+        assertEquals(1000, mean.getBucketMillis(0));
+        assertEquals(2000, mean.getBucketMillis(1));
+        assertEquals(6000, mean.getBucketMillis(2));
+    }
+
+    @Test
+    void upperLevelsWrapAroundToo() {
+        double[] values = new double[20];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        TimeSeries series = fill(new TimeSeries(BUCKET, 4, TimeSeries.Aggregation.MAX, 2), values);
+
+        assertArrayEquals(new double[]{16, 17, 18, 19}, points(series, 0));
+        // Diez puntos reducidos de a dos; el anillo conserva los cuatro últimos
+        assertArrayEquals(new double[]{13, 15, 17, 19}, points(series, 1));
+    }
+
+    @Test
+    void skippedBucketsAreInterpolated() {
+        TimeSeries series = new TimeSeries(BUCKET, 8, TimeSeries.Aggregation.MEAN);
+        series.add(0, 0);
+        series.add(4000, 8);
+        series.add(5000, 0);
+
+        assertArrayEquals(new double[]{0, 2, 4, 6, 8}, points(series, 0));
+    }
+
+    @Test
+    void longGapsOnlyFillWhatTheLastLevelCovers() {
+        TimeSeries series = new TimeSeries(BUCKET, 4, TimeSeries.Aggregation.MEAN);
+        series.add(0, 1);
+        series.add(1_000_000, 5);
+
+        // La cubeta cerrada más cuatro interpolados hacia el valor nuevo, no mil
+        assertEquals(5, series.getVersion());
+        assertArrayEquals(new double[]{1.8, 2.6, 3.4, 4.2}, points(series, 0), 1e-12);
+    }
+
+    @Test
+    void levelForPicksTheFinestLevelThatCoversTheWindow() {
+        TimeSeries series = new TimeSeries(BUCKET, 10, TimeSeries.Aggregation.MEAN, 6);
+
+        assertEquals(0, series.levelFor(5_000));
+        assertEquals(0, series.levelFor(10_000));
+        assertEquals(1, series.levelFor(10_001));
+        assertEquals(1, series.levelFor(60_000));
+        assertEquals(1, series.levelFor(1_000_000));
+    }
+
+    @Test
+    void versionChangesOnlyWhenAPointIsClosed() {
+        TimeSeries series = new TimeSeries(BUCKET, 4, TimeSeries.Aggregation.MEAN, 2);
+        series.add(0, 1);
+        series.add(500, 2);
+        assertEquals(0, series.getVersion());
+
+        series.add(1000, 3);
+        assertEquals(1, series.getVersion());
+
+        // El segundo punto del nivel 0 también cierra uno del nivel 1
+        series.add(2000, 4);
+        assertEquals(3, series.getVersion());
+    }
+
+    @Test
+    void rejectsInvalidShapes() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeries(0, 4, TimeSeries.Aggregation.MEAN));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeries(BUCKET, 1, TimeSeries.Aggregation.MEAN));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeries(BUCKET, 4, TimeSeries.Aggregation.MEAN, 6, 1));
+    }
+}
@@ -0,0 +1,26 @@
+package com.restaurant.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SimulationAppTest {
+
+    @Test
+    void profileUsesLambdaRegardlessOfArgumentOrder() {
+        SimulationConfig profileFirst = SimulationApp.parseArgs(new String[]{"--profile=rush", "--lambda=4"});
+        SimulationConfig lambdaFirst = SimulationApp.parseArgs(new String[]{"--lambda=4", "--profile=rush"});
+
+        double basePerSecond = 4 * 1000.0 / profileFirst.getArrivalIntervalMillis();
+        assertEquals(3 * basePerSecond, profileFirst.getArrivalProfile().getMaxRate(), 1e-12);
+        assertEquals(3 * basePerSecond, lambdaFirst.getArrivalProfile().getMaxRate(), 1e-12);
+    }
+
+    @Test
+    void withoutProfileArrivalsFollowLambda() {
+        SimulationConfig config = SimulationApp.parseArgs(new String[]{"--lambda=4"});
+        assertNull(config.getArrivalProfile());
+        assertEquals(4, config.getArrivalRate());
+    }
+}
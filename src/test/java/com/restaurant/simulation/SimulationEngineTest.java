@@ -0,0 +1,80 @@
+package com.restaurant.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulationEngineTest {
+
+    @Test
+    void eventsRunInTimeOrder() {
+        SimulationEngine engine = new SimulationEngine();
+        List<Long> times = new ArrayList<>();
+        for (long time : new long[]{50, 10, 30, 20, 40}) {
+            engine.scheduleAt(time, () -> times.add(engine.now()));
+        }
+
+        engine.run();
+
+        assertEquals(List.of(10L, 20L, 30L, 40L, 50L), times);
+        assertEquals(50, engine.now());
+        assertEquals(5, engine.getProcessedEvents());
+    }
+
+    @Test
+    void tiesRunInSchedulingOrder() {
+        SimulationEngine engine = new SimulationEngine();
+        List<String> order = new ArrayList<>();
+        engine.scheduleAt(10, () -> order.add("a"));
+        engine.scheduleAt(10, () -> order.add("b"));
+        engine.scheduleAt(5, () -> engine.schedule(5, () -> order.add("d")));
+        engine.scheduleAt(10, () -> order.add("c"));
+
+        engine.run();
+
+        // "d" se programó después que los demás eventos del mismo instante
+        assertEquals(List.of("a", "b", "c", "d"), order);
+    }
+
+    @Test
+    void eventsScheduledDuringAStepUseTheCurrentTime() {
+        SimulationEngine engine = new SimulationEngine();
+        List<Long> times = new ArrayList<>();
+        engine.scheduleAt(100, () -> engine.schedule(25, () -> times.add(engine.now())));
+        engine.schedule(0, () -> times.add(engine.now()));
+
+        engine.run();
+
+        assertEquals(List.of(0L, 125L), times);
+    }
+
+    @Test
+    void cancelledEventsNeitherRunNorAdvanceTheClock() {
+        SimulationEngine engine = new SimulationEngine();
+        List<Long> times = new ArrayList<>();
+        engine.scheduleAt(10, () -> times.add(engine.now()));
+        SimulationEngine.ScheduledEvent late = engine.scheduleAt(1000, () -> times.add(engine.now()));
+        late.cancel();
+
+        engine.run();
+
+        assertEquals(List.of(10L), times);
+        assertEquals(10, engine.now());
+        assertEquals(1, engine.getProcessedEvents());
+        assertFalse(engine.step());
+    }
+
+    @Test
+    void rejectsEventsInThePast() {
+        SimulationEngine engine = new SimulationEngine();
+        engine.scheduleAt(10, () -> { });
+        engine.run();
+
+        assertThrows(IllegalArgumentException.class, () -> engine.scheduleAt(5, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> engine.schedule(-1, () -> { }));
+    }
+}
@@ -0,0 +1,146 @@
+package com.restaurant.trace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TraceRecorderTest {
+    private static final TraceEventType[] TYPES = TraceEventType.values();
+
+    @TempDir
+    Path directory;
+
+    private static void recordEvents(TraceRecorder recorder, int count) {
+        for (int i = 0; i < count; i++) {
+            recorder.record(i * 10L, TYPES[i % TYPES.length], i, i % 7, i * 3L);
+        }
+    }
+
+    private static List<TraceEvent> read(TraceReader reader) throws IOException {
+        List<TraceEvent> events = new ArrayList<>();
+        reader.forEach(events::add);
+        return events;
+    }
+
+    private static void assertEvents(List<TraceEvent> events, int count) {
+        assertEquals(count, events.size());
+        for (int i = 0; i < count; i++) {
+            TraceEvent event = events.get(i);
+            assertEquals(i * 10L, event.getTime());
+            assertEquals(TYPES[i % TYPES.length], event.getType());
+            assertEquals(i, event.getId());
+            assertEquals(i % 7, event.getTableNumber());
+            assertEquals(i * 3L, event.getValue());
+        }
+    }
+
+    @Test
+    void closedTraceRoundTrips() throws IOException {
+        Path path = directory.resolve("traza.bin");
+        TraceRecorder recorder = TraceRecorder.open(path);
+        recordEvents(recorder, 5000);
+        recorder.close();
+
+        TraceReader reader = new TraceReader(path);
+        List<TraceEvent> events = read(reader);
+
+        assertEvents(events, 5000);
+        assertEquals(5000, reader.getRecordedCount());
+        assertEquals(0, reader.getDropped());
+    }
+
+    @Test
+    void unclosedTraceIsReadUpToTheFirstEmptyRecord() throws Exception {
+        Path path = directory.resolve("abierta.bin");
+        TraceRecorder recorder = TraceRecorder.open(path);
+        try {
+            recordEvents(recorder, 300);
+
+            // El hilo escritor copia los eventos al mapeo poco después
+            TraceReader reader = new TraceReader(path);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            List<TraceEvent> events = read(reader);
+            while (events.size() < 300 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+                events = read(reader);
+            }
+
+            assertEvents(events, 300);
+            assertEquals(0, reader.getRecordedCount());
+        } finally {
+            recorder.close();
+        }
+    }
+
+    @Test
+    void recordsAfterCloseAreCountedAsDropped() throws IOException {
+        Path path = directory.resolve("cerrada.bin");
+        TraceRecorder recorder = TraceRecorder.open(path);
+        recordEvents(recorder, 10);
+        recorder.close();
+
+        recorder.record(1, TraceEventType.ORDER_READY, 99, 1, 0);
+        recorder.record(TraceEventType.ORDER_READY, 100, 1);
+        recorder.close();
+
+        assertEquals(2, recorder.getDropped());
+        TraceReader reader = new TraceReader(path);
+        assertEvents(read(reader), 10);
+        assertEquals(10, reader.getRecordedCount());
+    }
+
+    @Test
+    void closingWhileProducersRecordLosesNothingUncounted() throws Exception {
+        Path path = directory.resolve("concurrente.bin");
+        TraceRecorder recorder = TraceRecorder.open(path);
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    recorder.record(i, TraceEventType.ORDER_CREATED, producer, i, 0);
+                }
+            });
+            producers[p].start();
+        }
+        recorder.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // Lo que no quedó en el archivo se contó como descartado, antes o después del cierre
+        TraceReader reader = new TraceReader(path);
+        long events = reader.forEach(event -> { });
+        assertEquals(events, reader.getRecordedCount());
+        assertEquals(4 * 20_000, events + recorder.getDropped());
+    }
+
+    @Test
+    void rejectsFilesThatAreNotTraces() throws IOException {
+        Path path = directory.resolve("otro.bin");
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> new TraceReader(path).forEach(event -> { }));
+
+        Path tiny = directory.resolve("corto.bin");
+        Files.write(tiny, new byte[4]);
+        assertThrows(IOException.class, () -> new TraceReader(tiny).forEach(event -> { }));
+    }
+
+    @Test
+    void disabledRecorderIgnoresEvents() {
+        TraceRecorder recorder = TraceRecorder.disabled();
+        recorder.record(1, TraceEventType.ORDER_CREATED, 1, 1, 0);
+        recorder.close();
+        assertEquals(0, recorder.getDropped());
+        assertFalse(recorder.isEnabled());
+    }
+}
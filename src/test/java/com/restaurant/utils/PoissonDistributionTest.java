@@ -0,0 +1,79 @@
+package com.restaurant.utils;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoissonDistributionTest {
+    private static final int SAMPLES = 200_000;
+    // Cubren la inversión (lambda < 10), el umbral y el rechazo
+    private static final double[] LAMBDAS = {0.5, 3, 9.9, 10, 42, 500};
+    private static final long[] SEEDS = {1, 7, 20240601};
+
+    @Test
+    void meanAndVarianceMatchLambda() {
+        for (long seed : SEEDS) {
+            for (double lambda : LAMBDAS) {
+                PoissonDistribution poisson = new PoissonDistribution(lambda, new SplittableRandom(seed));
+                double sum = 0;
+                double sumSquares = 0;
+                for (int i = 0; i < SAMPLES; i++) {
+                    int k = poisson.nextInt();
+                    assertTrue(k >= 0);
+                    sum += k;
+                    sumSquares += (double) k * k;
+                }
+                double mean = sum / SAMPLES;
+                double variance = sumSquares / SAMPLES - mean * mean;
+                String context = "lambda=" + lambda + ", semilla=" + seed;
+                // Cinco errores estándar de la media; la varianza muestral dentro de un 3 %
+                assertEquals(lambda, mean, 5 * Math.sqrt(lambda / SAMPLES), context);
+                assertEquals(lambda, variance, 0.03 * lambda, context);
+            }
+        }
+    }
+
+    @Test
+    void probabilityOfZeroMatchesSmallLambda() {
+        double lambda = 2;
+        PoissonDistribution poisson = new PoissonDistribution(lambda, new SplittableRandom(11));
+        int zeros = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            if (poisson.nextInt() == 0) {
+                zeros++;
+            }
+        }
+        assertEquals(Math.exp(-lambda), (double) zeros / SAMPLES, 0.005);
+    }
+
+    @Test
+    void interArrivalTimesAverageOneOverLambda() {
+        double lambda = 0.25;
+        PoissonDistribution poisson = new PoissonDistribution(lambda, new SplittableRandom(3));
+        double sum = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double gap = poisson.nextArrivalTime();
+            assertTrue(gap >= 0);
+            sum += gap;
+        }
+        assertEquals(1 / lambda, sum / SAMPLES, 0.05);
+    }
+
+    @Test
+    void sameSeedGivesTheSameSequence() {
+        PoissonDistribution first = new PoissonDistribution(42, new SplittableRandom(99));
+        PoissonDistribution second = new PoissonDistribution(42, new SplittableRandom(99));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.nextInt(), second.nextInt());
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveLambda() {
+        assertThrows(IllegalArgumentException.class, () -> new PoissonDistribution(0, new SplittableRandom(1)));
+        assertThrows(IllegalArgumentException.class, () -> new PoissonDistribution(-1, new SplittableRandom(1)));
+    }
+}